@@ -31,11 +31,14 @@
 import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.Stage;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.launchwrapper.Launch;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
 import net.minecraftforge.common.ForgeChunkManager;
 import net.minecraftforge.common.ForgeModContainer;
 import net.minecraftforge.common.MinecraftForge;
@@ -90,6 +93,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeInternalListeners;
 import org.spongepowered.common.bridge.block.BlockBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.biome.BiomeBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
@@ -121,7 +125,9 @@
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 import org.spongepowered.mod.inject.SpongeForgeModule;
+import org.spongepowered.mod.bridge.block.BlockStateBridge_Forge;
 import org.spongepowered.mod.bridge.registry.VillagerProfessionBridge_Forge;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
 import org.spongepowered.mod.network.SpongeModMessageHandler;
 import org.spongepowered.mod.plugin.MetaModContainer;
 import org.spongepowered.mod.plugin.SpongeModPluginContainer;
@@ -131,6 +137,7 @@
 import org.spongepowered.mod.service.permission.SpongePermissionHandler;
 import org.spongepowered.mod.service.world.SpongeChunkTicketManager;
 import org.spongepowered.mod.util.StaticMixinForgeHelper;
+import org.spongepowered.mod.world.TickingChunkIterator;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -482,20 +489,43 @@ public void onEntityRegister(RegistryEvent.Register<EntityEntry> event) {
 
     @SubscribeEvent
     public void onForceChunk(ForgeChunkManager.ForceChunkEvent event) {
-        final net.minecraft.world.chunk.Chunk chunk = ((ChunkProviderBridge) event.getTicket().world.getChunkProvider())
+        final World world = event.getTicket().world;
+        final net.minecraft.world.chunk.Chunk chunk = ((ChunkProviderBridge) world.getChunkProvider())
             .bridge$getLoadedChunkWithoutMarkingActive(event.getLocation().x,  event.getLocation().z);
         if (chunk != null) {
             ((ChunkBridge) chunk).bridge$setPersistedChunk(true);
         }
+        if (world instanceof WorldServerBridge_Forge && !((WorldBridge) world).bridge$isFake()) {
+            final TickingChunkIterator tickingChunks = ((WorldServerBridge_Forge) world).forgeBridge$getTickingChunks();
+            if (chunk != null) {
+                tickingChunks.addForced(chunk);
+            } else {
+                tickingChunks.addPendingForced(event.getLocation().x, event.getLocation().z);
+            }
+        }
     }
 
     @SubscribeEvent
     public void onUnforceChunk(ForgeChunkManager.UnforceChunkEvent event) {
-        final net.minecraft.world.chunk.Chunk chunk = ((ChunkProviderBridge) event.getTicket().world.getChunkProvider())
+        final World world = event.getTicket().world;
+        // The event is fired before the ticket is removed, the chunk may still be forced by other tickets
+        for (ForgeChunkManager.Ticket ticket : world.getPersistentChunks().get(event.getLocation())) {
+            if (ticket != event.getTicket()) {
+                return;
+            }
+        }
+        final net.minecraft.world.chunk.Chunk chunk = ((ChunkProviderBridge) world.getChunkProvider())
             .bridge$getLoadedChunkWithoutMarkingActive(event.getLocation().x,  event.getLocation().z);
         if (chunk != null) {
             ((ChunkBridge) chunk).bridge$setPersistedChunk(false);
         }
+        if (world instanceof WorldServerBridge_Forge && !((WorldBridge) world).bridge$isFake()) {
+            final TickingChunkIterator tickingChunks = ((WorldServerBridge_Forge) world).forgeBridge$getTickingChunks();
+            if (chunk != null) {
+                tickingChunks.removeForced(chunk);
+            }
+            tickingChunks.removePendingForced(event.getLocation().x, event.getLocation().z);
+        }
     }
 
     @Subscribe
@@ -531,6 +561,14 @@ public void onLoadComplete(FMLLoadCompleteEvent event) {
         for (EntityEntry entry : ForgeRegistries.ENTITIES) {
             StaticMixinForgeHelper.registerCustomEntity(entry);
         }
+        // Registries are frozen by now, so the light of every state can be resolved once
+        for (Block block : ForgeRegistries.BLOCKS) {
+            for (IBlockState state : block.getBlockState().getValidStates()) {
+                if (state instanceof BlockStateBridge_Forge) {
+                    ((BlockStateBridge_Forge) state).forgeBridge$cacheLight();
+                }
+            }
+        }
 
     }
 
@@ -38,4 +38,14 @@ public interface EventBusBridge_Forge {
     boolean forgeBridge$post(Event event, boolean forced);
 
     Set<Class<? extends Event>> forgeBridge$getEventListenerClassList();
+
+    /**
+     * Gets whether any listener registered on this bus would receive an
+     * event of the given type, including listeners of its super types. The
+     * answer is cached until a listener is registered or unregistered.
+     *
+     * @param eventClass The event class
+     * @return True if the event has listeners on this bus
+     */
+    boolean forgeBridge$hasListeners(Class<? extends Event> eventClass);
 }
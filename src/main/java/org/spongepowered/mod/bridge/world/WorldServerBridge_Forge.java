@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.bridge.world;
+
+import org.spongepowered.mod.world.ActivationGrid;
+import org.spongepowered.mod.world.DormantChunkCache;
+import org.spongepowered.mod.world.IncrementalChunkGC;
+import org.spongepowered.mod.world.ItemMerger;
+import org.spongepowered.mod.world.LightUpdateQueue;
+import org.spongepowered.mod.world.ReducedTickRate;
+import org.spongepowered.mod.world.TickingChunkIterator;
+import org.spongepowered.mod.world.WorldHibernation;
+import org.spongepowered.mod.world.gen.ChunkPopulationScheduler;
+import org.spongepowered.mod.world.storage.PacedAutoSave;
+import org.spongepowered.mod.world.timing.WorldTickTimings;
+
+public interface WorldServerBridge_Forge {
+
+    ChunkPopulationScheduler forgeBridge$getPopulationScheduler();
+
+    IncrementalChunkGC forgeBridge$getChunkGC();
+
+    DormantChunkCache forgeBridge$getDormantChunkCache();
+
+    WorldHibernation forgeBridge$getHibernation();
+
+    LightUpdateQueue forgeBridge$getLightUpdateQueue();
+
+    TickingChunkIterator forgeBridge$getTickingChunks();
+
+    PacedAutoSave forgeBridge$getPacedAutoSave();
+
+    WorldTickTimings forgeBridge$getTickTimings();
+
+    ReducedTickRate forgeBridge$getReducedTickRate();
+
+    ActivationGrid forgeBridge$getActivationGrid();
+
+    ItemMerger forgeBridge$getItemMerger();
+
+}
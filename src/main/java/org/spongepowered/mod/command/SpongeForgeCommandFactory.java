@@ -24,14 +24,17 @@
  */
 package org.spongepowered.mod.command;
 
+import static org.spongepowered.api.command.args.GenericArguments.literal;
 import static org.spongepowered.api.command.args.GenericArguments.optional;
 import static org.spongepowered.api.command.args.GenericArguments.plugin;
 
 import com.google.common.collect.Lists;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.spec.CommandSpec;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.pagination.PaginationList;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.action.TextActions;
@@ -39,16 +42,44 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.command.SpongeCommandFactory;
 import org.spongepowered.common.command.args.FilteredPluginsCommandElement;
+import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.entity.activation.CanUpdateCache;
+import org.spongepowered.mod.entity.activation.InactiveTickStrategies;
+import org.spongepowered.mod.item.inventory.HopperTransfers;
 import org.spongepowered.mod.plugin.SpongeModPluginContainer;
+import org.spongepowered.mod.world.DormantChunkCache;
+import org.spongepowered.mod.world.IncrementalChunkGC;
+import org.spongepowered.mod.world.ItemMerger;
+import org.spongepowered.mod.world.LightUpdateQueue;
+import org.spongepowered.mod.world.ReducedTickRate;
+import org.spongepowered.mod.world.TileEntitySleep;
+import org.spongepowered.mod.world.WorldHibernation;
+import org.spongepowered.mod.world.WorldLeakDetector;
+import org.spongepowered.mod.world.WorldRetentionWalker;
+import org.spongepowered.mod.world.gen.ChunkPopulationScheduler;
+import org.spongepowered.mod.world.storage.AsyncChunkSaving;
+import org.spongepowered.mod.world.storage.MappedRegionCache;
+import org.spongepowered.mod.world.storage.PacedAutoSave;
+import org.spongepowered.mod.world.timing.TickHistogram;
+import org.spongepowered.mod.world.timing.TypeTickProfiler;
+import org.spongepowered.mod.world.timing.WorldTickTimings;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 public class SpongeForgeCommandFactory extends SpongeCommandFactory {
     private static final List<String> MOD_LIST_STATICS = Lists.newArrayList("minecraft", "mcp", "FML", "forge", "spongeapi", "sponge");
+    private static final int TICK_PROFILE_ENTRIES = 20;
+    // Walking the heap runs on the main thread, a few milliseconds at a time
+    private static final long WALK_TICK_BUDGET = TimeUnit.MILLISECONDS.toNanos(10);
 
     public static CommandSpec createSpongeModsCommand() {
         return CommandSpec.builder()
@@ -115,6 +146,505 @@ public static CommandSpec createSpongeModsCommand() {
                 }).build();
     }
 
+    public static CommandSpec createSpongePerfCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays SpongeForge performance metrics"))
+                .permission("sponge.command.perf")
+                .child(createPopulationCommand(), "population")
+                .child(createChunkGCCommand(), "chunkgc")
+                .child(createDormantChunksCommand(), "dormant")
+                .child(createHibernationCommand(), "hibernation")
+                .child(createLightCommand(), "light")
+                .child(createChunkSavingCommand(), "saving")
+                .child(createRegionFilesCommand(), "regions")
+                .child(createAutoSaveCommand(), "autosave")
+                .child(createWorldLeaksCommand(), "leaks")
+                .child(createTickRateCommand(), "tickrate")
+                .child(createInactiveTicksCommand(), "inactive")
+                .child(createItemMergingCommand(), "itemmerge")
+                .child(createTileEntitySleepCommand(), "tilesleep")
+                .child(createHopperTransferCommand(), "hoppers")
+                .build();
+    }
+
+    public static CommandSpec createSpongeTickTimesCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays tick time percentiles of each world over the last minute, or 5 minutes with '5m'"))
+                .permission("sponge.command.ticktimes")
+                .arguments(optional(literal(Text.of("5m"), "5m")))
+                .executor((src, args) -> {
+                    final boolean fiveMinutes = args.hasAny("5m");
+                    final int slots = fiveMinutes ? WorldTickTimings.FIVE_MINUTES : WorldTickTimings.ONE_MINUTE;
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final WorldTickTimings timings = ((WorldServerBridge_Forge) world).forgeBridge$getTickTimings();
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET,
+                                " (dimension ", world.provider.getDimension(), ")"));
+                        for (WorldTickTimings.Phase phase : WorldTickTimings.Phase.values()) {
+                            final TickHistogram.Percentiles percentiles = timings.getPercentiles(phase, slots);
+                            lines.add(Text.of(TextColors.GRAY, "  ", phase.getId(), ": ", TextColors.RESET,
+                                    "p50 ", formatMillis(percentiles.getP50() * 1000), "ms, p95 ", formatMillis(percentiles.getP95() * 1000),
+                                    "ms, p99 ", formatMillis(percentiles.getP99() * 1000), "ms, max ", formatMillis(percentiles.getMax() * 1000),
+                                    "ms over ", percentiles.getCount(), " ticks"));
+                        }
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Tick Times (", fiveMinutes ? "5 minutes" : "1 minute", ")"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    public static CommandSpec createSpongeTickProfileCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the entity and tile entity types taking the most time to tick, or the chunks with 'chunks'"))
+                .permission("sponge.command.tickprofile")
+                .arguments(optional(literal(Text.of("chunks"), "chunks")))
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    if (args.hasAny("chunks")) {
+                        final int ticks = TypeTickProfiler.getChunkWindowTicks();
+                        for (TypeTickProfiler.ChunkStats chunk : TypeTickProfiler.getTopChunks()) {
+                            if (lines.size() >= TICK_PROFILE_ENTRIES) {
+                                break;
+                            }
+                            final TypeTickProfiler.TypeStats top = chunk.getTopType();
+                            lines.add(Text.of(TextColors.GREEN, "DIM", chunk.getDimensionId(), " ", chunk.getX(), ", ", chunk.getZ(), TextColors.RESET,
+                                    ": ", formatMillis(chunk.getNanos() / ticks), "ms/tick",
+                                    top == null ? Text.EMPTY : Text.of(", mostly ", top.getModId(), ":", top.getType().getSimpleName(), " ",
+                                            formatMillis(chunk.getTopTypeNanos() / ticks), "ms/tick")));
+                        }
+                        if (TypeTickProfiler.getUntrackedNanos() > 0) {
+                            lines.add(Text.of(TextColors.GRAY, formatMillis(TypeTickProfiler.getUntrackedNanos()),
+                                    "ms spent in untracked chunks since startup"));
+                        }
+                    } else {
+                        final int ticks = TypeTickProfiler.getTypeWindowTicks();
+                        for (TypeTickProfiler.TypeStats type : TypeTickProfiler.getTopTypes()) {
+                            if (lines.size() >= TICK_PROFILE_ENTRIES) {
+                                break;
+                            }
+                            lines.add(Text.of(TextColors.GREEN, type.getModId(), TextColors.RESET, ":", type.getType().getName(),
+                                    TextColors.GRAY, type.isTileEntity() ? " (tile entity)" : " (entity)", TextColors.RESET, ": ",
+                                    formatMillis(type.getReportNanos() / ticks), "ms/tick"));
+                        }
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, args.hasAny("chunks") ? "Chunk Tick Times" : "Type Tick Times"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createPopulationCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the chunk population queues and populator costs"))
+                .permission("sponge.command.perf.population")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final ChunkPopulationScheduler scheduler = ((WorldServerBridge_Forge) world).forgeBridge$getPopulationScheduler();
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET,
+                                ": queued ", scheduler.getQueueSize(),
+                                ", populated ", scheduler.getTotalPopulated(), "/", scheduler.getTotalQueued(),
+                                ", last tick ", scheduler.getLastTickPopulated(), " in ", formatMillis(scheduler.getLastTickNanos()), "ms"));
+                    }
+                    for (ChunkPopulationScheduler.PopulatorCost cost : ChunkPopulationScheduler.getPopulatorCosts()) {
+                        lines.add(Text.of(TextColors.GRAY, cost.getId(), TextColors.RESET,
+                                ": ", formatMillis(cost.getNanos()), "ms total, ",
+                                formatMillis(cost.getNanos() / Math.max(1, cost.getCalls())), "ms avg over ", cost.getCalls(), " calls"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Chunk Population"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createChunkGCCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the incremental chunk GC progress of each world"))
+                .permission("sponge.command.perf.chunkgc")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final IncrementalChunkGC chunkGC = ((WorldServerBridge_Forge) world).forgeBridge$getChunkGC();
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET,
+                                ": examined ", chunkGC.getTotalExamined(), ", queued for unload ", chunkGC.getTotalQueued(),
+                                " in ", formatMillis(chunkGC.getTotalNanos()), "ms, ", chunkGC.getRemaining(), " left in pass"));
+                        lines.add(Text.of(TextColors.GRAY, "  last tick: ", TextColors.RESET, "examined ", chunkGC.getLastTickExamined(),
+                                ", queued ", chunkGC.getLastTickQueued(), " in ", formatMillis(chunkGC.getLastTickNanos()), "ms"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Chunk GC"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createDormantChunksCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the dormant chunk cache statistics of each world"))
+                .permission("sponge.command.perf.dormant")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final DormantChunkCache cache = ((WorldServerBridge_Forge) world).forgeBridge$getDormantChunkCache();
+                        final long lookups = cache.getHits() + cache.getMisses();
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET,
+                                ": ", cache.getSize(), " chunks, ~", cache.getRetainedBytes() / 1024, "KB retained, ",
+                                cache.getHits(), " hits, ", cache.getMisses(), " misses (",
+                                lookups == 0 ? 0 : cache.getHits() * 100 / lookups, "% hit rate), ", cache.getEvictions(), " evictions"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Dormant Chunk Cache"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createHibernationCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays which worlds are idle or hibernating"))
+                .permission("sponge.command.perf.hibernation")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    final int tick = SpongeImpl.getServer().getTickCounter();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final WorldHibernation hibernation = ((WorldServerBridge_Forge) world).forgeBridge$getHibernation();
+                        final Text state;
+                        if (hibernation.isHibernating()) {
+                            state = Text.of(TextColors.AQUA, "hibernating");
+                        } else if (hibernation.getIdleSinceTick() >= 0) {
+                            state = Text.of(TextColors.YELLOW, "idle for ", (tick - hibernation.getIdleSinceTick()) / 20, "s");
+                        } else {
+                            state = Text.of(TextColors.GREEN, "active");
+                        }
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET, ": ", state, TextColors.RESET,
+                                ", ", world.getChunkProvider().getLoadedChunkCount(), " chunks loaded, hibernated ", hibernation.getHibernations(),
+                                " times, woke up ", hibernation.getWakeUps(), " times"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Dimension Hibernation"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createLightCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the queued and processed light checks of each world"))
+                .permission("sponge.command.perf.light")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final LightUpdateQueue queue = ((WorldServerBridge_Forge) world).forgeBridge$getLightUpdateQueue();
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET,
+                                ": queued ", queue.getTotalQueued(), " (", queue.getTotalDeduplicated(), " duplicates), processed ",
+                                queue.getTotalProcessed(), ", pending ", queue.getPending(),
+                                ", last tick ", queue.getLastTickProcessed(), " in ", formatMillis(queue.getLastTickNanos()), "ms"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Light Updates"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createChunkSavingCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the asynchronous chunk saving statistics"))
+                .permission("sponge.command.perf.saving")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    lines.add(Text.of(TextColors.GREEN, "Enabled", TextColors.RESET, ": ", AsyncChunkSaving.isEnabled()));
+                    lines.add(Text.of(TextColors.GREEN, "Queued", TextColors.RESET, ": ", AsyncChunkSaving.getQueueDepth(), " tasks, ",
+                            AsyncChunkSaving.getPendingChunks(), " chunks awaiting encoding, ~", AsyncChunkSaving.getSnapshotBytes() / 1024,
+                            "KB of snapshots"));
+                    lines.add(Text.of(TextColors.GREEN, "Encoded", TextColors.RESET, ": ", AsyncChunkSaving.getChunksSnapshotted(),
+                            " chunks snapshotted, ", AsyncChunkSaving.getChunksEncodedInline(), " encoded inline"));
+                    lines.add(Text.of(TextColors.GREEN, "Written", TextColors.RESET, ": ", AsyncChunkSaving.getChunksWritten(), " chunks, ",
+                            AsyncChunkSaving.getBytesWritten() / 1024, "KB"));
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Chunk Saving"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createRegionFilesCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the memory mapped region file statistics"))
+                .permission("sponge.command.perf.regions")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    lines.add(Text.of(TextColors.GREEN, "Enabled", TextColors.RESET, ": ", MappedRegionCache.isEnabled()));
+                    lines.add(Text.of(TextColors.GREEN, "Mapped", TextColors.RESET, ": ", MappedRegionCache.getMappedRegions(), " regions, ",
+                            MappedRegionCache.getMappedBytes() / (1024 * 1024), "MB"));
+                    lines.add(Text.of(TextColors.GREEN, "Reads", TextColors.RESET, ": ", MappedRegionCache.getReads(), " chunks, ",
+                            MappedRegionCache.getMaps(), " regions mapped, ", MappedRegionCache.getEvictions(), " unmapped by the limit"));
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Region Files"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createAutoSaveCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the chunks saved per tick by paced auto saves of each world"))
+                .permission("sponge.command.perf.autosave")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final PacedAutoSave autoSave = ((WorldServerBridge_Forge) world).forgeBridge$getPacedAutoSave();
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET,
+                                ": ", autoSave.getQueued(), " chunks queued, ", autoSave.getLastTickSaved(), " saved last tick, ",
+                                autoSave.getTotalSaved(), " saved in total, last cycle ", autoSave.getLastCycleSize(), " chunks over ",
+                                autoSave.getInterval(), " ticks with ", autoSave.getLastCycleLeftOver(), " left over"));
+                        lines.add(Text.of("  Saved per tick: ", Arrays.toString(autoSave.getHistory())));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Paced Auto Save"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createWorldLeaksCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Lists unloaded worlds still in memory, walking the heap for what retains them with 'walk'"))
+                .permission("sponge.command.perf.leaks")
+                .arguments(optional(literal(Text.of("walk"), "walk")))
+                .executor((src, args) -> {
+                    final boolean walk = args.hasAny("walk");
+                    if (walk) {
+                        // Only worlds surviving a full collection are of interest
+                        System.gc();
+                    }
+                    final List<WorldLeakDetector.UnloadedWorld> unloaded = WorldLeakDetector.getTracked();
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldLeakDetector.UnloadedWorld world : unloaded) {
+                        lines.add(Text.of(world.isReported() ? TextColors.RED : TextColors.YELLOW, world.getName(), TextColors.RESET,
+                                " (dimension ", world.getDimensionId(), ", hash ", world.getIdentity(), "): unloaded ",
+                                world.getSecondsSinceUnload(), "s ago"));
+                    }
+                    if (lines.isEmpty()) {
+                        lines.add(Text.of(TextColors.GREEN, "Every unloaded world was garbage collected"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Unloaded Worlds"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    if (walk && !unloaded.isEmpty()) {
+                        final int maxObjects = SpongeForgeConfigAdapter.getInstance().getConfig().getWorldLeakDetection().getMaxWalkedObjects();
+                        final WorldRetentionWalker walker = new WorldRetentionWalker(unloaded, new ArrayList<>(WorldManager.getWorlds()), maxObjects);
+                        src.sendMessage(Text.of("Walking the heap, this may take a while..."));
+                        Task.builder()
+                                .name("Sponge - World Retention Walker")
+                                .intervalTicks(1)
+                                .execute(task -> {
+                                    if (!walker.walk(WALK_TICK_BUDGET)) {
+                                        return;
+                                    }
+                                    task.cancel();
+                                    final Map<Integer, List<String>> paths = walker.getPaths();
+                                    for (WorldLeakDetector.UnloadedWorld world : unloaded) {
+                                        final List<String> found = paths.get(world.getIdentity());
+                                        if (found == null) {
+                                            src.sendMessage(Text.of(TextColors.YELLOW, world.getName(), TextColors.RESET,
+                                                    ": no retaining reference found from the walked roots"));
+                                            continue;
+                                        }
+                                        src.sendMessage(Text.of(TextColors.RED, world.getName(), TextColors.RESET, " is retained by:"));
+                                        for (String path : found) {
+                                            src.sendMessage(Text.of("  ", path));
+                                        }
+                                    }
+                                })
+                                .submit(SpongeImpl.getPlugin());
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createTickRateCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the effective tick rate of each world"))
+                .permission("sponge.command.perf.tickrate")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final ReducedTickRate tickRate = ((WorldServerBridge_Forge) world).forgeBridge$getReducedTickRate();
+                        final boolean hibernating = ((WorldServerBridge_Forge) world).forgeBridge$getHibernation().isHibernating();
+                        final Text state;
+                        if (hibernating) {
+                            state = Text.of(TextColors.AQUA, "hibernating");
+                        } else if (tickRate.isReduced()) {
+                            state = Text.of(TextColors.YELLOW, "reduced");
+                        } else {
+                            state = Text.of(TextColors.GREEN, "full rate");
+                        }
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET, ": ", state, TextColors.RESET,
+                                ", ", String.format("%.2f", hibernating ? 0 : tickRate.getEffectiveTps()), " TPS, ", world.playerEntities.size(), " players"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "World Tick Rates"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createInactiveTicksCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the active and inactive ticks of each entity type and its inactive tick strategy"))
+                .permission("sponge.command.perf.inactive")
+                .executor((src, args) -> {
+                    final List<InactiveTickStrategies.EntityType> types = new ArrayList<>(InactiveTickStrategies.getTypes());
+                    types.sort(Comparator.comparingLong(InactiveTickStrategies.EntityType::getInactiveTicks).reversed());
+                    final List<Text> lines = new ArrayList<>();
+                    lines.add(Text.of(TextColors.GRAY, "CanUpdate events: ", TextColors.RESET, CanUpdateCache.getPosted(), " posted, ",
+                            CanUpdateCache.getCached(), " avoided by the cache, ", CanUpdateCache.getSkipped(), " avoided without listeners"));
+                    for (InactiveTickStrategies.EntityType type : types) {
+                        final long total = type.getActiveTicks() + type.getInactiveTicks();
+                        lines.add(Text.of(TextColors.GREEN, type.getName(), TextColors.RESET, " (", type.getStrategyName(), "): ",
+                                type.getActiveTicks(), " active, ", type.getInactiveTicks(), " inactive (",
+                                total == 0 ? 0 : type.getInactiveTicks() * 100 / total, "%)"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Inactive Entity Ticks"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createItemMergingCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays how many dropped items were merged in each world"))
+                .permission("sponge.command.perf.itemmerge")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    for (WorldServer world : WorldManager.getWorlds()) {
+                        final ItemMerger merger = ((WorldServerBridge_Forge) world).forgeBridge$getItemMerger();
+                        lines.add(Text.of(TextColors.GREEN, world.getWorldInfo().getWorldName(), TextColors.RESET,
+                                ": merged ", merger.getTotalMerged(), " items, last pass merged ", merger.getLastPassMerged(), " of ",
+                                merger.getLastPassItems(), " in ", formatMillis(merger.getLastPassNanos()), "ms"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Item Merging"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createTileEntitySleepCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays the sleeping and awake counts of each tile entity type put to sleep when idle"))
+                .permission("sponge.command.perf.tilesleep")
+                .executor((src, args) -> {
+                    final List<TileEntitySleep.TileEntityType> types = new ArrayList<>(TileEntitySleep.getTypes());
+                    types.removeIf(type -> type.getSleeps() == 0 && type.getAwakeTicks() == 0);
+                    types.sort(Comparator.comparingInt(TileEntitySleep.TileEntityType::getSleeping).reversed());
+                    final List<Text> lines = new ArrayList<>();
+                    lines.add(Text.of(TextColors.GRAY, "Sleeping: ", TextColors.RESET, TileEntitySleep.getSleeping()));
+                    for (TileEntitySleep.TileEntityType type : types) {
+                        final long total = type.getAwakeTicks() + type.getSleptTicks();
+                        lines.add(Text.of(TextColors.GREEN, type.getId(), TextColors.RESET, ": ", type.getSleeping(), " sleeping, ",
+                                type.getSleeps(), " times put to sleep, ", type.getAwakeTicks(), " awake ticks, ", type.getSleptTicks(),
+                                " slept ticks (", total == 0 ? 0 : type.getSleptTicks() * 100 / total, "%)"));
+                    }
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Tile Entity Sleep"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createHopperTransferCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Displays how much work the hopper transfer fast path saved"))
+                .permission("sponge.command.perf.hoppers")
+                .executor((src, args) -> {
+                    final List<Text> lines = new ArrayList<>();
+                    lines.add(Text.of(TextColors.GRAY, "Inventory scans skipped: ", TextColors.RESET, HopperTransfers.getSkippedScans()));
+                    lines.add(Text.of(TextColors.GRAY, "Inventories: ", TextColors.RESET, HopperTransfers.getResolvedAdapters(), " resolved, ",
+                            HopperTransfers.getReusedAdapters(), " reused"));
+                    lines.add(Text.of(TextColors.GRAY, "Batched post events: ", TextColors.RESET, HopperTransfers.getBatchedEvents(), " fired for ",
+                            HopperTransfers.getBatchedTransfers(), " transfers"));
+                    PaginationList.builder()
+                            .title(Text.of(TextColors.RED, "Hopper Transfers"))
+                            .padding(Text.of(TextColors.DARK_GREEN, "="))
+                            .contents(lines)
+                            .build()
+                            .sendTo(src);
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static String formatMillis(final long nanos) {
+        return String.format("%.2f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
     private static Predicate<? super PluginContainer> getFilteredModsPredicate() {
         return plugin -> !SpongeCommandFactory.CONTAINER_LIST_STATICS.contains(plugin.getId()) && !(plugin instanceof SpongeModPluginContainer);
     }
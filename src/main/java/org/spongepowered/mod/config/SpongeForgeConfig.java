@@ -0,0 +1,174 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.mod.config.category.AutoSaveCategory;
+import org.spongepowered.mod.config.category.ChunkGCCategory;
+import org.spongepowered.mod.config.category.ChunkPopulationCategory;
+import org.spongepowered.mod.config.category.ChunkSavingCategory;
+import org.spongepowered.mod.config.category.DimensionHibernationCategory;
+import org.spongepowered.mod.config.category.DormantChunkCacheCategory;
+import org.spongepowered.mod.config.category.EntityActivationCategory;
+import org.spongepowered.mod.config.category.HopperTransferCategory;
+import org.spongepowered.mod.config.category.ItemMergingCategory;
+import org.spongepowered.mod.config.category.LightUpdatesCategory;
+import org.spongepowered.mod.config.category.ReducedTickRateCategory;
+import org.spongepowered.mod.config.category.RegionFileCategory;
+import org.spongepowered.mod.config.category.TickProfilerCategory;
+import org.spongepowered.mod.config.category.TickTimingsCategory;
+import org.spongepowered.mod.config.category.TileEntitySleepCategory;
+import org.spongepowered.mod.config.category.UsernameCacheCategory;
+import org.spongepowered.mod.config.category.WorldLeakDetectionCategory;
+
+/**
+ * The root of {@code config/sponge/forge.conf}, holding the settings that
+ * only apply to the Forge platform and thus have no home in the common
+ * global or world configs.
+ */
+@ConfigSerializable
+public class SpongeForgeConfig {
+
+    @Setting(value = "chunk-population")
+    private ChunkPopulationCategory chunkPopulation = new ChunkPopulationCategory();
+
+    @Setting(value = "chunk-gc")
+    private ChunkGCCategory chunkGC = new ChunkGCCategory();
+
+    @Setting(value = "dormant-chunk-cache")
+    private DormantChunkCacheCategory dormantChunkCache = new DormantChunkCacheCategory();
+
+    @Setting(value = "dimension-hibernation")
+    private DimensionHibernationCategory dimensionHibernation = new DimensionHibernationCategory();
+
+    @Setting(value = "light-updates")
+    private LightUpdatesCategory lightUpdates = new LightUpdatesCategory();
+
+    @Setting(value = "chunk-saving")
+    private ChunkSavingCategory chunkSaving = new ChunkSavingCategory();
+
+    @Setting(value = "region-files")
+    private RegionFileCategory regionFiles = new RegionFileCategory();
+
+    @Setting(value = "auto-save")
+    private AutoSaveCategory autoSave = new AutoSaveCategory();
+
+    @Setting(value = "username-cache")
+    private UsernameCacheCategory usernameCache = new UsernameCacheCategory();
+
+    @Setting(value = "world-leak-detection")
+    private WorldLeakDetectionCategory worldLeakDetection = new WorldLeakDetectionCategory();
+
+    @Setting(value = "tick-timings")
+    private TickTimingsCategory tickTimings = new TickTimingsCategory();
+
+    @Setting(value = "reduced-tick-rate")
+    private ReducedTickRateCategory reducedTickRate = new ReducedTickRateCategory();
+
+    @Setting(value = "entity-activation")
+    private EntityActivationCategory entityActivation = new EntityActivationCategory();
+
+    @Setting(value = "item-merging")
+    private ItemMergingCategory itemMerging = new ItemMergingCategory();
+
+    @Setting(value = "tick-profiler")
+    private TickProfilerCategory tickProfiler = new TickProfilerCategory();
+
+    @Setting(value = "tile-entity-sleep")
+    private TileEntitySleepCategory tileEntitySleep = new TileEntitySleepCategory();
+
+    @Setting(value = "hopper-transfers")
+    private HopperTransferCategory hopperTransfers = new HopperTransferCategory();
+
+    public ChunkPopulationCategory getChunkPopulation() {
+        return this.chunkPopulation;
+    }
+
+    public ChunkGCCategory getChunkGC() {
+        return this.chunkGC;
+    }
+
+    public DormantChunkCacheCategory getDormantChunkCache() {
+        return this.dormantChunkCache;
+    }
+
+    public DimensionHibernationCategory getDimensionHibernation() {
+        return this.dimensionHibernation;
+    }
+
+    public LightUpdatesCategory getLightUpdates() {
+        return this.lightUpdates;
+    }
+
+    public ChunkSavingCategory getChunkSaving() {
+        return this.chunkSaving;
+    }
+
+    public RegionFileCategory getRegionFiles() {
+        return this.regionFiles;
+    }
+
+    public AutoSaveCategory getAutoSave() {
+        return this.autoSave;
+    }
+
+    public UsernameCacheCategory getUsernameCache() {
+        return this.usernameCache;
+    }
+
+    public WorldLeakDetectionCategory getWorldLeakDetection() {
+        return this.worldLeakDetection;
+    }
+
+    public TickTimingsCategory getTickTimings() {
+        return this.tickTimings;
+    }
+
+    public ReducedTickRateCategory getReducedTickRate() {
+        return this.reducedTickRate;
+    }
+
+    public EntityActivationCategory getEntityActivation() {
+        return this.entityActivation;
+    }
+
+    public ItemMergingCategory getItemMerging() {
+        return this.itemMerging;
+    }
+
+    public TickProfilerCategory getTickProfiler() {
+        return this.tickProfiler;
+    }
+
+    public TileEntitySleepCategory getTileEntitySleep() {
+        return this.tileEntitySleep;
+    }
+
+    public HopperTransferCategory getHopperTransfers() {
+        return this.hopperTransfers;
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config;
+
+import ninja.leaping.configurate.ConfigurationOptions;
+import ninja.leaping.configurate.commented.CommentedConfigurationNode;
+import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
+import ninja.leaping.configurate.objectmapping.ObjectMapper;
+import ninja.leaping.configurate.objectmapping.ObjectMappingException;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.annotation.Nullable;
+
+/**
+ * Loads and saves the {@link SpongeForgeConfig}. The config is loaded
+ * lazily on first access so that it is available to mixin plugins as well
+ * as to the mod itself.
+ */
+public final class SpongeForgeConfigAdapter {
+
+    private static final String HEADER = "1.0\n"
+            + "\n"
+            + "# If you need help with the configuration or have any questions related to SpongeForge,\n"
+            + "# join us at the IRC or drop by our forums and leave a post.\n"
+            + "\n"
+            + "# IRC: #sponge @ irc.esper.net ( https://webchat.esper.net/?channel=sponge )\n"
+            + "# Forums: https://forums.spongepowered.org/\n";
+
+    @Nullable private static SpongeForgeConfigAdapter instance;
+
+    private final Path path;
+    private final HoconConfigurationLoader loader;
+    private final ObjectMapper<SpongeForgeConfig>.BoundInstance mapper;
+    private CommentedConfigurationNode root;
+
+    public static SpongeForgeConfigAdapter getInstance() {
+        if (instance == null) {
+            instance = new SpongeForgeConfigAdapter(SpongeImpl.getSpongeConfigDir().resolve("forge.conf"));
+        }
+        return instance;
+    }
+
+    private SpongeForgeConfigAdapter(final Path path) {
+        this.path = path;
+        this.loader = HoconConfigurationLoader.builder()
+                .setPath(path)
+                .setDefaultOptions(ConfigurationOptions.defaults().setHeader(HEADER))
+                .build();
+        try {
+            this.mapper = ObjectMapper.forObject(new SpongeForgeConfig());
+        } catch (ObjectMappingException e) {
+            throw new RuntimeException("Unable to create the SpongeForge config mapper", e);
+        }
+        this.root = this.loader.createEmptyNode();
+        this.reload();
+    }
+
+    public SpongeForgeConfig getConfig() {
+        return this.mapper.getInstance();
+    }
+
+    public void reload() {
+        try {
+            Files.createDirectories(this.path.getParent());
+            this.root = this.loader.load();
+            this.mapper.populate(this.root);
+            this.save();
+        } catch (IOException | ObjectMappingException e) {
+            SpongeImpl.getLogger().error("Failed to load SpongeForge config {}, using defaults", this.path, e);
+        }
+    }
+
+    public void save() {
+        try {
+            this.mapper.serialize(this.root);
+            this.loader.save(this.root);
+        } catch (IOException | ObjectMappingException e) {
+            SpongeImpl.getLogger().error("Failed to save SpongeForge config {}", this.path, e);
+        }
+    }
+
+}
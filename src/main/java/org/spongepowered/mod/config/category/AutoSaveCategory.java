@@ -0,0 +1,53 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class AutoSaveCategory extends ConfigCategory {
+
+    @Setting(value = "paced", comment = "If 'true', an auto save no longer saves every changed chunk at once. The chunks\n"
+            + "that changed are saved a few per tick until the next auto save instead, the\n"
+            + "ones saved the longest ago first. The world data is still written at each auto\n"
+            + "save, after the chunks left over from the previous one. Saves requested by\n"
+            + "commands or when stopping are never paced.")
+    private boolean paced = false;
+
+    @Setting(value = "max-chunks-per-tick", comment = "The maximum amount of chunks saved per tick by a paced auto save. Chunks that\n"
+            + "don't fit are saved at once at the next auto save.")
+    private int maxChunksPerTick = 64;
+
+    public boolean isPaced() {
+        return this.paced;
+    }
+
+    public int getMaxChunksPerTick() {
+        return this.maxChunksPerTick;
+    }
+
+}
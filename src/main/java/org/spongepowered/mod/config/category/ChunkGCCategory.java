@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class ChunkGCCategory extends ConfigCategory {
+
+    @Setting(value = "incremental", comment = "If 'true', the chunk garbage collection of a world is spread over several ticks\n"
+            + "instead of examining every loaded chunk at once. Chunks that have been unused\n"
+            + "by players the longest are examined first.")
+    private boolean incremental = false;
+
+    @Setting(value = "max-chunks-per-tick", comment = "The maximum amount of chunks examined per world per tick by the incremental\n"
+            + "chunk garbage collection.")
+    private int maxChunksPerTick = 256;
+
+    @Setting(value = "max-micros-per-tick", comment = "The maximum amount of microseconds spent per world per tick by the incremental\n"
+            + "chunk garbage collection. At least one chunk is examined per tick.")
+    private int maxMicrosPerTick = 500;
+
+    public boolean isIncremental() {
+        return this.incremental;
+    }
+
+    public int getMaxChunksPerTick() {
+        return this.maxChunksPerTick;
+    }
+
+    public int getMaxMicrosPerTick() {
+        return this.maxMicrosPerTick;
+    }
+
+}
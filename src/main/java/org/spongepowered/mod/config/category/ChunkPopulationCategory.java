@@ -0,0 +1,52 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class ChunkPopulationCategory extends ConfigCategory {
+
+    @Setting(value = "time-sliced", comment = "If 'true', chunks that become populatable are queued and populated at the end\n"
+            + "of the world tick, spending at most 'tick-budget-millis' per server tick.\n"
+            + "Chunks closest to a player are populated first.")
+    private boolean timeSliced = false;
+
+    @Setting(value = "tick-budget-millis", comment = "The maximum amount of milliseconds per server tick spent populating\n"
+            + "queued chunks. Each world with queued chunks always populates at least one chunk\n"
+            + "per tick so that no world is starved.")
+    private int tickBudgetMillis = 10;
+
+    public boolean isTimeSliced() {
+        return this.timeSliced;
+    }
+
+    public int getTickBudgetMillis() {
+        return this.tickBudgetMillis;
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class ChunkSavingCategory extends ConfigCategory {
+
+    @Setting(value = "async-section-encoding", comment = "If 'true', saving a chunk only copies the block data of its sections on the\n"
+            + "main thread. Encoding it into the chunk NBT happens on the encoder threads, before\n"
+            + "the chunk is compressed and written by the chunk I/O thread. Chunks are encoded\n"
+            + "right away while a mod listens for ChunkDataEvent.Save, as it may read the data.")
+    private boolean asyncSectionEncoding = false;
+
+    @Setting(value = "encoder-threads", comment = "The amount of threads encoding chunk sections. Encodings that don't fit the\n"
+            + "queue of these threads are performed by the chunk I/O thread.")
+    private int encoderThreads = 2;
+
+    public boolean isAsyncSectionEncoding() {
+        return this.asyncSectionEncoding;
+    }
+
+    public int getEncoderThreads() {
+        return this.encoderThreads;
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class DimensionHibernationCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', dimensions that keep their spawn loaded stop ticking once they have had\n"
+            + "no players and no forced chunks for 'idle-seconds'. All chunks but the spawn area\n"
+            + "are released while the world stays loaded, so it resumes on the next tick once a\n"
+            + "player enters, a chunk is forced or a mod initializes the dimension again.\n"
+            + "The overworld never hibernates.")
+    private boolean enabled = false;
+
+    @Setting(value = "idle-seconds", comment = "The amount of seconds a dimension has to be idle before it hibernates.")
+    private int idleSeconds = 300;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getIdleSeconds() {
+        return this.idleSeconds;
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class DormantChunkCacheCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', unloaded chunks are kept in a per world least recently used cache\n"
+            + "bounded by their estimated memory footprint instead of Forge's dormant chunk cache,\n"
+            + "so that reloading them does not require reading them from disk.")
+    private boolean enabled = false;
+
+    @Setting(value = "max-megabytes-per-world", comment = "The maximum estimated amount of memory, in megabytes, retained by the dormant\n"
+            + "chunks of a single world. The least recently unloaded chunks are evicted first.")
+    private int maxMegabytesPerWorld = 64;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getMaxMegabytesPerWorld() {
+        return this.maxMegabytesPerWorld;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public class EntityActivationCategory extends ConfigCategory {
+
+    @Setting(value = "spatial-grid", comment = "If 'true', entity activation ranges are checked against a grid of the chunks\n"
+            + "around players built once per tick, instead of against every player in turn.\n"
+            + "Entities are activated per chunk, so up to 15 blocks further than their range.\n"
+            + "Only used when the entity activation range module is enabled.")
+    private boolean spatialGrid = true;
+
+    @Setting(value = "mod-strategies", comment = "What happens to the entities of a mod while they are outside of their\n"
+            + "activation range, keyed by mod id. One of 'age' to only age them, 'gravity' to\n"
+            + "age them and let them fall, 'every-N' to fully tick them every Nth tick, for\n"
+            + "example 'every-4', or 'default' to keep the built-in behavior.")
+    private Map<String, String> modStrategies = new HashMap<>();
+
+    @Setting(value = "entity-strategies", comment = "Same as 'mod-strategies', keyed by entity id such as 'minecraft:arrow'. Takes\n"
+            + "precedence over the strategy of the mod.")
+    private Map<String, String> entityStrategies = new HashMap<>();
+
+    @Setting(value = "can-update-cache-ticks", comment = "The amount of ticks the answer of mods to whether an inactive entity should\n"
+            + "update anyway is reused before asking them again. Set to 0 to ask every tick.")
+    private int canUpdateCacheTicks = 20;
+
+    public boolean isSpatialGrid() {
+        return this.spatialGrid;
+    }
+
+    public void setSpatialGrid(final boolean spatialGrid) {
+        this.spatialGrid = spatialGrid;
+    }
+
+    public Map<String, String> getModStrategies() {
+        return this.modStrategies;
+    }
+
+    public Map<String, String> getEntityStrategies() {
+        return this.entityStrategies;
+    }
+
+    public int getCanUpdateCacheTicks() {
+        return this.canUpdateCacheTicks;
+    }
+
+}
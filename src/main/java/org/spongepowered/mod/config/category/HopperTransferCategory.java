@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class HopperTransferCategory extends ConfigCategory {
+
+    @Setting(value = "fast-path", comment = "If 'true', hoppers remember which vanilla inventories they found empty or full\n"
+            + "until these are changed, and reuse the inventories resolved for transfer events\n"
+            + "instead of scanning and resolving them again on each attempt.")
+    private boolean fastPath = false;
+
+    @Setting(value = "state-cache-ticks", comment = "The maximum amount of ticks an inventory found empty or full is remembered, in\n"
+            + "case it is changed without being marked dirty.")
+    private int stateCacheTicks = 20;
+
+    @Setting(value = "batch-post-events", comment = "If 'true', the transfer post events of hoppers are fired once per source and\n"
+            + "target inventory after all tile entities of a world have ticked, with the\n"
+            + "transactions of all transfers between them in that tick, instead of once per\n"
+            + "transfer. These batched events only report the transfers: cancelling them or\n"
+            + "changing their transactions is ignored, as the items may have been moved on\n"
+            + "already and restoring them would duplicate them. Leave this off if a plugin\n"
+            + "cancels hopper transfer post events, cancelling the pre events still works.")
+    private boolean batchPostEvents = false;
+
+    public boolean isFastPath() {
+        return this.fastPath;
+    }
+
+    public void setFastPath(final boolean fastPath) {
+        this.fastPath = fastPath;
+    }
+
+    public int getStateCacheTicks() {
+        return this.stateCacheTicks;
+    }
+
+    public boolean isBatchPostEvents() {
+        return this.batchPostEvents;
+    }
+
+    public void setBatchPostEvents(final boolean batchPostEvents) {
+        this.batchPostEvents = batchPostEvents;
+    }
+
+}
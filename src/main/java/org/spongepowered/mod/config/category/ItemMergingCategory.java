@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class ItemMergingCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', dropped items of the same kind lying close to each other are\n"
+            + "periodically merged into a single stack, on top of the merging done by vanilla\n"
+            + "for items almost on top of each other.")
+    private boolean enabled = false;
+
+    @Setting(value = "radius", comment = "The maximum distance in blocks between two dropped items that are merged, at\n"
+            + "most 16.")
+    private double radius = 2.5D;
+
+    @Setting(value = "interval", comment = "The amount of ticks between two merge passes over the dropped items of a world.")
+    private int interval = 20;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public double getRadius() {
+        return this.radius;
+    }
+
+    public int getInterval() {
+        return this.interval;
+    }
+
+}
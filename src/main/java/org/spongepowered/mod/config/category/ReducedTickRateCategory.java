@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public class ReducedTickRateCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', worlds without players are only ticked every few server ticks.\n"
+            + "Weather, random ticks, spawning, entities and tile entities all slow down, the\n"
+            + "world time and tile entities supporting it catch up on the skipped ticks.")
+    private boolean enabled = false;
+
+    @Setting(value = "divisor", comment = "A world without players is ticked once every this many server ticks.")
+    private int divisor = 4;
+
+    @Setting(value = "dimension-divisors", comment = "Overrides the divisor of a dimension, keyed by dimension id. A divisor of 1\n"
+            + "always ticks the dimension at the full rate.")
+    private Map<String, Integer> dimensionDivisors = new HashMap<>();
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getDivisor(final int dimensionId) {
+        final Integer divisor = this.dimensionDivisors.get(Integer.toString(dimensionId));
+        return Math.max(1, divisor == null ? this.divisor : divisor);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class RegionFileCategory extends ConfigCategory {
+
+    @Setting(value = "memory-mapped", comment = "If 'true', chunks are read from memory mapped region files instead of being\n"
+            + "copied out of the file for every load. The file format is unchanged, chunks are\n"
+            + "still written the vanilla way.")
+    private boolean memoryMapped = false;
+
+    @Setting(value = "max-mapped-regions", comment = "The maximum amount of region files kept mapped at once. The least recently\n"
+            + "read region is unmapped when a new one is mapped past this limit.")
+    private int maxMappedRegions = 256;
+
+    public boolean isMemoryMapped() {
+        return this.memoryMapped;
+    }
+
+    public void setMemoryMapped(final boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
+
+    public int getMaxMappedRegions() {
+        return this.maxMappedRegions;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class TickProfilerCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', the time spent ticking entities and tile entities is sampled and\n"
+            + "summed up per type and per chunk, shown by '/sponge tickprofile'.")
+    private boolean enabled = true;
+
+    @Setting(value = "sample-interval", comment = "On average one in this many entity and tile entity ticks is timed, picked at\n"
+            + "random, the others are estimated from it. Lower values are more precise but cost\n"
+            + "more.")
+    private int sampleInterval = 16;
+
+    @Setting(value = "max-tracked-chunks", comment = "The maximum amount of chunks the time spent ticking is tracked for at once.")
+    private int maxTrackedChunks = 8192;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getSampleInterval() {
+        return this.sampleInterval;
+    }
+
+    public int getMaxTrackedChunks() {
+        return this.maxTrackedChunks;
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class TickTimingsCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', the time spent in each world tick is recorded into histograms, shown\n"
+            + "by '/sponge ticktimes' and exposed over JMX.")
+    private boolean enabled = true;
+
+    @Setting(value = "jmx", comment = "If 'true', the tick time percentiles of each world are registered as a JMX\n"
+            + "bean under 'org.spongepowered.mod:type=WorldTickTimings'.")
+    private boolean jmx = true;
+
+    @Setting(value = "csv-interval", comment = "The amount of seconds between two rows written to the tick time CSV files in\n"
+            + "'logs/tick-times'. Set to 0 to disable the CSV files.")
+    private int csvInterval = 60;
+
+    @Setting(value = "csv-max-files", comment = "The amount of daily tick time CSV files to keep, older files are deleted.")
+    private int csvMaxFiles = 7;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public boolean isJmx() {
+        return this.jmx;
+    }
+
+    public int getCsvInterval() {
+        return this.csvInterval;
+    }
+
+    public int getCsvMaxFiles() {
+        return this.csvMaxFiles;
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@ConfigSerializable
+public class TileEntitySleepCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', tickable tile entities with nothing to do are put to sleep and\n"
+            + "skipped until a neighbor, their inventory or a capability lookup wakes them up.")
+    private boolean enabled = false;
+
+    @Setting(value = "idle-ticks", comment = "The amount of consecutive ticks a tile entity of one of the 'types' must change\n"
+            + "nothing before it is put to sleep.")
+    private int idleTicks = 20;
+
+    @Setting(value = "max-sleep-ticks", comment = "The amount of ticks after which a sleeping tile entity wakes up on its own, to\n"
+            + "pick up work nothing woke it up for, such as items dropped onto a hopper.")
+    private int maxSleepTicks = 40;
+
+    @Setting(value = "types", comment = "The ids of the tile entities put to sleep when idle, on top of those\n"
+            + "implementing SleepingTickable. Sleeping is skipped while hoppers are on transfer\n"
+            + "cooldown and while furnaces burn or cook.")
+    private List<String> types = new ArrayList<>(Arrays.asList("minecraft:hopper", "minecraft:furnace"));
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getIdleTicks() {
+        return this.idleTicks;
+    }
+
+    public int getMaxSleepTicks() {
+        return this.maxSleepTicks;
+    }
+
+    public List<String> getTypes() {
+        return this.types;
+    }
+
+}
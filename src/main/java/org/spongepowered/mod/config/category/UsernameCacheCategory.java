@@ -0,0 +1,52 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class UsernameCacheCategory extends ConfigCategory {
+
+    @Setting(value = "journaled", comment = "If 'true', saving the username cache appends the changed names to\n"
+            + "'usernamecache.journal' instead of rewriting 'usernamecache.json'. The journal is\n"
+            + "compacted into 'usernamecache.json' in the background once it grew large enough.\n"
+            + "Takes effect on restart, disabling it folds the journal back into the JSON file.")
+    private boolean journaled = false;
+
+    @Setting(value = "compact-after-changes", comment = "The minimum amount of journaled changes before the journal is compacted. It is\n"
+            + "raised to a quarter of the cached names for large caches.")
+    private int compactAfterChanges = 10000;
+
+    public boolean isJournaled() {
+        return this.journaled;
+    }
+
+    public int getCompactAfterChanges() {
+        return this.compactAfterChanges;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.config.category.ConfigCategory;
+
+@ConfigSerializable
+public class WorldLeakDetectionCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', unloaded worlds are tracked until they are garbage collected, and a\n"
+            + "warning is logged for each one still in memory after the grace period.")
+    private boolean enabled = true;
+
+    @Setting(value = "grace-period", comment = "The amount of seconds an unloaded world may stay in memory before it is\n"
+            + "reported as leaked.")
+    private int gracePeriod = 120;
+
+    @Setting(value = "max-walked-objects", comment = "The maximum amount of objects visited by '/sponge perf leaks walk' while\n"
+            + "looking for what retains leaked worlds. Each visited object costs some memory\n"
+            + "until the walk is done.")
+    private int maxWalkedObjects = 5000000;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getGracePeriod() {
+        return this.gracePeriod;
+    }
+
+    public int getMaxWalkedObjects() {
+        return this.maxWalkedObjects;
+    }
+
+}
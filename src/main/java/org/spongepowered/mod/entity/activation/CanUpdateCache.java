@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.entity.activation;
+
+import net.minecraft.entity.Entity;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.ForgeEventFactory;
+import net.minecraftforge.event.entity.EntityEvent;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.bridge.entity.EntityBridge_ForgeActivation;
+import org.spongepowered.mod.bridge.event.EventBusBridge_Forge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+
+/**
+ * Answers whether a mod forces an inactive entity to update, posting an
+ * {@link EntityEvent.CanUpdate} only when a mod listens for it and the answer
+ * cached on the entity has expired.
+ */
+public final class CanUpdateCache {
+
+    private static long posted;
+    private static long cached;
+    private static long skipped;
+
+    private CanUpdateCache() {
+    }
+
+    public static boolean canUpdate(final Entity entity) {
+        if (!((EventBusBridge_Forge) MinecraftForge.EVENT_BUS).forgeBridge$hasListeners(EntityEvent.CanUpdate.class)) {
+            // Nobody can set the result, it stays at its default
+            skipped++;
+            return false;
+        }
+        final int cacheTicks = SpongeForgeConfigAdapter.getInstance().getConfig().getEntityActivation().getCanUpdateCacheTicks();
+        if (cacheTicks <= 0) {
+            posted++;
+            return ForgeEventFactory.canEntityUpdate(entity);
+        }
+        final EntityBridge_ForgeActivation bridge = (EntityBridge_ForgeActivation) entity;
+        final long tick = SpongeImpl.getServer().getTickCounter();
+        if (tick < bridge.forgeBridge$getCanUpdateExpiry()) {
+            cached++;
+            return bridge.forgeBridge$getCachedCanUpdate();
+        }
+        posted++;
+        final boolean canUpdate = ForgeEventFactory.canEntityUpdate(entity);
+        bridge.forgeBridge$setCachedCanUpdate(canUpdate, tick + cacheTicks);
+        return canUpdate;
+    }
+
+    public static long getPosted() {
+        return posted;
+    }
+
+    public static long getCached() {
+        return cached;
+    }
+
+    public static long getSkipped() {
+        return skipped;
+    }
+
+}
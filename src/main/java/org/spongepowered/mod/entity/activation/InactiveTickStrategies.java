@@ -0,0 +1,286 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.entity.activation;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityList;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.MoverType;
+import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.entity.item.EntityXPOrb;
+import net.minecraft.entity.projectile.EntityArrow;
+import net.minecraft.util.ResourceLocation;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.EntityActivationCategory;
+import org.spongepowered.mod.mixin.entityactivation.EntityArrowAccessor_ForgeActivation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The registry of {@link InactiveTickStrategy strategies} applied to entities
+ * outside of their activation range. The strategy of an entity class is
+ * resolved once, in order from the strategy configured for its entity id, the
+ * one configured for its mod id, the one registered for the closest
+ * superclass, to {@link #AGE}. Each resolved class also counts its active and
+ * inactive ticks.
+ */
+public final class InactiveTickStrategies {
+
+    private static final String EVERY_PREFIX = "every-";
+    private static final int XP_ORB_DESPAWN_AGE = 6000;
+    private static final int ARROW_DESPAWN_TICKS = 1200;
+    private static final double MINECART_MIN_SPEED_SQUARED = 1.0E-4D;
+
+    /**
+     * Only ages the entity, the default for every entity.
+     */
+    public static final InactiveTickStrategy AGE = entity -> {
+        entity.ticksExisted++;
+        ((ActivationCapability) entity).activation$inactiveTick();
+        return false;
+    };
+
+    /**
+     * Ages the entity and lets it fall, so it does not float in mid air.
+     */
+    public static final InactiveTickStrategy GRAVITY = entity -> {
+        AGE.tick(entity);
+        if (!entity.onGround && !entity.hasNoGravity()) {
+            entity.motionY -= entity instanceof EntityLivingBase ? 0.08D : 0.04D;
+            entity.move(MoverType.SELF, 0, entity.motionY, 0);
+            entity.motionY *= 0.98D;
+        }
+        return false;
+    };
+
+    private static final InactiveTickStrategy XP_ORB = entity -> {
+        final EntityXPOrb orb = (EntityXPOrb) entity;
+        orb.ticksExisted++;
+        if (orb.delayBeforeCanPickup > 0) {
+            orb.delayBeforeCanPickup--;
+        }
+        if (++orb.xpOrbAge >= XP_ORB_DESPAWN_AGE) {
+            orb.setDead();
+        }
+        return false;
+    };
+
+    private static final InactiveTickStrategy ARROW = entity -> {
+        final EntityArrowAccessor_ForgeActivation arrow = (EntityArrowAccessor_ForgeActivation) entity;
+        // Arrows in flight would otherwise hang in the air until a player comes by
+        if (!arrow.forgeAccessor$isInGround()) {
+            return true;
+        }
+        entity.ticksExisted++;
+        if (((EntityArrow) entity).arrowShake > 0) {
+            ((EntityArrow) entity).arrowShake--;
+        }
+        final int ticksInGround = arrow.forgeAccessor$getTicksInGround() + 1;
+        arrow.forgeAccessor$setTicksInGround(ticksInGround);
+        if (ticksInGround >= ARROW_DESPAWN_TICKS) {
+            entity.setDead();
+        }
+        return false;
+    };
+
+    // Moving carts are kept in step with the rails and the carts they push, drag never quite stops them
+    private static final InactiveTickStrategy MINECART = entity ->
+            entity.motionX * entity.motionX + entity.motionZ * entity.motionZ > MINECART_MIN_SPEED_SQUARED || AGE.tick(entity);
+
+    private static final Map<Class<? extends Entity>, Registration> registered = new LinkedHashMap<>();
+    private static final Map<Class<?>, EntityType> types = new IdentityHashMap<>();
+    @Nullable private static Map<String, String> resolvedModStrategies;
+    @Nullable private static Map<String, String> resolvedEntityStrategies;
+
+    static {
+        register(EntityXPOrb.class, "xp-orb", XP_ORB);
+        register(EntityArrow.class, "arrow", ARROW);
+        register(EntityMinecart.class, "minecart", MINECART);
+    }
+
+    private InactiveTickStrategies() {
+    }
+
+    /**
+     * Registers the strategy of a class of entities, which also applies to
+     * its subclasses unless they have their own.
+     *
+     * @param type The entity class
+     * @param name The name of the strategy, shown in the statistics
+     * @param strategy The strategy
+     */
+    public static void register(final Class<? extends Entity> type, final String name, final InactiveTickStrategy strategy) {
+        registered.put(type, new Registration(name, strategy));
+        types.clear();
+    }
+
+    /**
+     * Gets the resolved strategy and tick counters of a class of entities.
+     *
+     * @param type The entity class
+     * @return The entity type
+     */
+    public static EntityType getType(final Class<? extends Entity> type) {
+        final EntityActivationCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getEntityActivation();
+        if (category.getModStrategies() != resolvedModStrategies || category.getEntityStrategies() != resolvedEntityStrategies) {
+            // The config was reloaded
+            resolvedModStrategies = category.getModStrategies();
+            resolvedEntityStrategies = category.getEntityStrategies();
+            types.clear();
+        }
+        EntityType entityType = types.get(type);
+        if (entityType == null) {
+            entityType = resolve(type, category);
+            types.put(type, entityType);
+        }
+        return entityType;
+    }
+
+    public static Collection<EntityType> getTypes() {
+        return new ArrayList<>(types.values());
+    }
+
+    private static EntityType resolve(final Class<? extends Entity> type, final EntityActivationCategory category) {
+        final ResourceLocation id = EntityList.getKey(type);
+        final String name = id == null ? type.getName() : id.toString();
+        if (id != null) {
+            final String configured = category.getEntityStrategies().get(id.toString());
+            final InactiveTickStrategy strategy = parse(configured, id.toString());
+            if (strategy != null) {
+                return new EntityType(name, configured, strategy);
+            }
+            final String modConfigured = category.getModStrategies().get(id.getNamespace());
+            final InactiveTickStrategy modStrategy = parse(modConfigured, id.getNamespace());
+            if (modStrategy != null) {
+                return new EntityType(name, modConfigured, modStrategy);
+            }
+        }
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final Registration registration = registered.get(current);
+            if (registration != null) {
+                return new EntityType(name, registration.name, registration.strategy);
+            }
+        }
+        return new EntityType(name, "age", AGE);
+    }
+
+    @Nullable
+    private static InactiveTickStrategy parse(@Nullable final String strategy, final String key) {
+        if (strategy == null || strategy.equals("default")) {
+            return null;
+        }
+        if (strategy.equals("age")) {
+            return AGE;
+        }
+        if (strategy.equals("gravity")) {
+            return GRAVITY;
+        }
+        if (strategy.startsWith(EVERY_PREFIX)) {
+            try {
+                final int interval = Integer.parseInt(strategy.substring(EVERY_PREFIX.length()));
+                if (interval > 0) {
+                    return entity -> entity.ticksExisted % interval == 0 || AGE.tick(entity);
+                }
+            } catch (NumberFormatException ignored) {
+                // Reported below
+            }
+        }
+        SpongeImpl.getLogger().warn("Unknown inactive tick strategy '{}' configured for {}, using the default one", strategy, key);
+        return null;
+    }
+
+    private static final class Registration {
+
+        final String name;
+        final InactiveTickStrategy strategy;
+
+        Registration(final String name, final InactiveTickStrategy strategy) {
+            this.name = name;
+            this.strategy = strategy;
+        }
+    }
+
+    /**
+     * The resolved strategy of a class of entities.
+     */
+    public static final class EntityType {
+
+        private final String name;
+        private final String strategyName;
+        private final InactiveTickStrategy strategy;
+        private long activeTicks;
+        private long inactiveTicks;
+
+        EntityType(final String name, final String strategyName, final InactiveTickStrategy strategy) {
+            this.name = name;
+            this.strategyName = strategyName;
+            this.strategy = strategy;
+        }
+
+        /**
+         * Ticks an inactive entity of this type.
+         *
+         * @param entity The entity
+         * @return True if the entity should get a full tick anyway
+         */
+        public boolean tickInactive(final Entity entity) {
+            if (this.strategy.tick(entity)) {
+                this.activeTicks++;
+                return true;
+            }
+            this.inactiveTicks++;
+            return false;
+        }
+
+        public void countActiveTick() {
+            this.activeTicks++;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public String getStrategyName() {
+            return this.strategyName;
+        }
+
+        public long getActiveTicks() {
+            return this.activeTicks;
+        }
+
+        public long getInactiveTicks() {
+            return this.inactiveTicks;
+        }
+    }
+
+}
@@ -0,0 +1,388 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.item.inventory;
+
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.wrapper.InvWrapper;
+import net.minecraftforge.items.wrapper.SidedInvWrapper;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.item.inventory.ChangeInventoryEvent;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.transaction.SlotTransaction;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.inventory.TrackedInventoryBridge;
+import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.item.inventory.util.InventoryUtil;
+import org.spongepowered.mod.bridge.tileentity.TileEntityBridge_Forge;
+import org.spongepowered.mod.bridge.tileentity.TileEntityHopperBridge_Forge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.HopperTransferCategory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The hopper transfer fast path. Vanilla inventories a hopper found nothing
+ * to extract from, or found full, are remembered on their tile entity until
+ * they are marked dirty, so the hopper does not scan them again on each
+ * attempt. The {@link Inventory inventories} resolved for the transfer
+ * events of a hopper are kept as long as it transfers from and to the same
+ * item handlers. Transfer post events can also be batched, see
+ * {@link #callTransferPost}.
+ */
+public final class HopperTransfers {
+
+    private static final int NOTHING_TO_EXTRACT = 1 << EnumFacing.VALUES.length;
+
+    private static final Map<BatchKey, PostBatch> pendingPosts = new LinkedHashMap<>();
+    private static long skippedScans;
+    private static long resolvedAdapters;
+    private static long reusedAdapters;
+    private static long batchedTransfers;
+    private static long batchedEvents;
+
+    private HopperTransfers() {
+    }
+
+    /**
+     * Gets whether nothing can be extracted from the bottom of an inventory,
+     * as found out by {@link #setNothingToExtract}.
+     *
+     * @param inventory The inventory a hopper extracts from
+     * @param handler The item handler of the inventory
+     * @return True if the inventory is known to have nothing to extract
+     */
+    public static boolean hasNothingToExtract(final Object inventory, final IItemHandler handler) {
+        return hasKnownState(inventory, handler, NOTHING_TO_EXTRACT);
+    }
+
+    public static void setNothingToExtract(final Object inventory, final IItemHandler handler) {
+        setKnownState(inventory, handler, NOTHING_TO_EXTRACT);
+    }
+
+    /**
+     * Gets whether an inventory is full on the side a hopper inserts into,
+     * as found out by {@link #setFull}.
+     *
+     * @param inventory The inventory a hopper inserts into
+     * @param handler The item handler of the inventory
+     * @param hopperFacing The facing of the hopper
+     * @return True if the inventory is known to be full
+     */
+    public static boolean isFull(final Object inventory, final IItemHandler handler, final EnumFacing hopperFacing) {
+        return hasKnownState(inventory, handler, 1 << hopperFacing.ordinal());
+    }
+
+    public static void setFull(final Object inventory, final IItemHandler handler, final EnumFacing hopperFacing) {
+        setKnownState(inventory, handler, 1 << hopperFacing.ordinal());
+    }
+
+    /**
+     * Gets whether the state of an inventory can be remembered, which is the
+     * case of the vanilla item handlers wrapping a tile entity, which is
+     * marked dirty whenever its contents change.
+     *
+     * @param inventory The inventory
+     * @param handler The item handler of the inventory
+     * @return True if the state of the inventory can be remembered
+     */
+    public static boolean canRememberState(final Object inventory, final IItemHandler handler) {
+        if (!(inventory instanceof TileEntity) || !((TileEntity) inventory).hasWorld()
+                || !SpongeForgeConfigAdapter.getInstance().getConfig().getHopperTransfers().isFastPath()) {
+            return false;
+        }
+        if (handler instanceof InvWrapper) {
+            return ((InvWrapper) handler).getInv() == inventory;
+        }
+        return handler instanceof SidedInvWrapper && inventory instanceof ISidedInventory;
+    }
+
+    private static boolean hasKnownState(final Object inventory, final IItemHandler handler, final int state) {
+        if (!canRememberState(inventory, handler)) {
+            return false;
+        }
+        final TileEntity tileEntity = (TileEntity) inventory;
+        final TileEntityBridge_Forge bridge = (TileEntityBridge_Forge) tileEntity;
+        if ((bridge.forgeBridge$getKnownInventoryState() & state) == 0) {
+            return false;
+        }
+        if (tileEntity.getWorld().getTotalWorldTime() >= bridge.forgeBridge$getKnownInventoryStateExpiry()) {
+            bridge.forgeBridge$setKnownInventoryState(0, 0);
+            return false;
+        }
+        skippedScans++;
+        return true;
+    }
+
+    private static void setKnownState(final Object inventory, final IItemHandler handler, final int state) {
+        if (!canRememberState(inventory, handler)) {
+            return;
+        }
+        final TileEntity tileEntity = (TileEntity) inventory;
+        final TileEntityBridge_Forge bridge = (TileEntityBridge_Forge) tileEntity;
+        final HopperTransferCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getHopperTransfers();
+        final long now = tileEntity.getWorld().getTotalWorldTime();
+        if (now >= bridge.forgeBridge$getKnownInventoryStateExpiry()) {
+            bridge.forgeBridge$setKnownInventoryState(state, now + category.getStateCacheTicks());
+        } else {
+            bridge.forgeBridge$setKnownInventoryState(bridge.forgeBridge$getKnownInventoryState() | state, bridge.forgeBridge$getKnownInventoryStateExpiry());
+        }
+    }
+
+    /**
+     * Gets the inventory of a hopper or dropper taking part in a transfer.
+     *
+     * @param hopper The hopper
+     * @return The inventory
+     */
+    public static Inventory getInventory(final Object hopper) {
+        final Adapters adapters = getAdapters(hopper);
+        if (adapters == null) {
+            return InventoryUtil.toInventory(hopper, null);
+        }
+        if (adapters.self == null) {
+            adapters.self = resolve(hopper, null);
+        } else {
+            reusedAdapters++;
+        }
+        return adapters.self;
+    }
+
+    /**
+     * Gets the inventory a hopper extracts from.
+     *
+     * @param hopper The hopper
+     * @param source The inventory above the hopper
+     * @param handler The item handler of the inventory
+     * @return The inventory
+     */
+    public static Inventory getSourceInventory(final Object hopper, final Object source, final IItemHandler handler) {
+        final Adapters adapters = getAdapters(hopper);
+        if (adapters == null) {
+            return InventoryUtil.toInventory(source, handler);
+        }
+        if (adapters.source != source || adapters.sourceHandler != handler || adapters.sourceInventory == null) {
+            adapters.source = source;
+            adapters.sourceHandler = handler;
+            adapters.sourceInventory = resolve(source, handler);
+        } else {
+            reusedAdapters++;
+        }
+        return adapters.sourceInventory;
+    }
+
+    /**
+     * Gets the inventory a hopper extracted from last with the given item
+     * handler, if it was resolved before.
+     *
+     * @param hopper The hopper
+     * @param handler The item handler of the inventory
+     * @return The inventory, or null if it was not resolved before
+     */
+    @Nullable
+    public static Inventory getLastSourceInventory(final Object hopper, final IItemHandler handler) {
+        final Adapters adapters = getAdapters(hopper);
+        if (adapters == null || adapters.sourceHandler != handler || adapters.sourceInventory == null) {
+            return null;
+        }
+        reusedAdapters++;
+        return adapters.sourceInventory;
+    }
+
+    /**
+     * Gets the inventory a hopper or dropper inserts into.
+     *
+     * @param hopper The hopper
+     * @param destination The inventory the hopper faces
+     * @param handler The item handler of the inventory
+     * @return The inventory
+     */
+    public static Inventory getDestinationInventory(final Object hopper, final Object destination, final IItemHandler handler) {
+        final Adapters adapters = getAdapters(hopper);
+        if (adapters == null) {
+            return InventoryUtil.toInventory(destination, handler);
+        }
+        if (adapters.destination != destination || adapters.destinationHandler != handler || adapters.destinationInventory == null) {
+            adapters.destination = destination;
+            adapters.destinationHandler = handler;
+            adapters.destinationInventory = resolve(destination, handler);
+        } else {
+            reusedAdapters++;
+        }
+        return adapters.destinationInventory;
+    }
+
+    @Nullable
+    private static Adapters getAdapters(final Object hopper) {
+        if (!(hopper instanceof TileEntityHopperBridge_Forge) || !SpongeForgeConfigAdapter.getInstance().getConfig().getHopperTransfers().isFastPath()) {
+            return null;
+        }
+        return ((TileEntityHopperBridge_Forge) hopper).forgeBridge$getTransferAdapters();
+    }
+
+    private static Inventory resolve(final Object inventory, @Nullable final IItemHandler handler) {
+        resolvedAdapters++;
+        return InventoryUtil.toInventory(inventory, handler);
+    }
+
+    /**
+     * Fires the transfer post event of the transactions captured by a hopper,
+     * or adds them to the batch of its source and destination inventories
+     * fired by {@link #firePendingPosts()} if post events are batched.
+     * Batched events only report the transfers, which are never undone: by
+     * the time they are fired, the items may have been moved on by other
+     * hoppers, and restoring the original slots would duplicate them.
+     *
+     * @param capture The capture of the hopper
+     * @param source The source inventory
+     * @param destination The destination inventory
+     * @return True if the event was fired right away and cancelled
+     */
+    public static boolean callTransferPost(@Nullable final TrackedInventoryBridge capture, @Nullable final Inventory source,
+            @Nullable final Inventory destination) {
+        if (capture == null || source == null || destination == null
+                || !SpongeForgeConfigAdapter.getInstance().getConfig().getHopperTransfers().isBatchPostEvents()) {
+            return SpongeCommonEventFactory.callTransferPost(capture, source, destination);
+        }
+        final BatchKey key = new BatchKey(source, destination);
+        PostBatch batch = pendingPosts.get(key);
+        if (batch == null) {
+            batch = new PostBatch(capture);
+            pendingPosts.put(key, batch);
+        }
+        final List<SlotTransaction> captured = capture.bridge$getCapturedSlotTransactions();
+        batch.transactions.addAll(captured);
+        captured.clear();
+        batchedTransfers++;
+        return false;
+    }
+
+    /**
+     * Fires the batched transfer post events, once per source and destination
+     * inventory. Cancelling them or changing their transactions has no
+     * effect.
+     */
+    public static void firePendingPosts() {
+        if (pendingPosts.isEmpty()) {
+            return;
+        }
+        // Listeners may cause transfers of their own
+        final List<Map.Entry<BatchKey, PostBatch>> batches = new ArrayList<>(pendingPosts.entrySet());
+        pendingPosts.clear();
+        for (Map.Entry<BatchKey, PostBatch> entry : batches) {
+            final PostBatch batch = entry.getValue();
+            try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+                frame.pushCause(batch.capture);
+                // Unlike SpongeCommonEventFactory#callTransferPost, the slots are not restored on cancellation
+                final ChangeInventoryEvent.Transfer.Post event = SpongeEventFactory.createChangeInventoryEventTransferPost(
+                        Sponge.getCauseStackManager().getCurrentCause(), entry.getKey().source, entry.getKey().destination, batch.transactions);
+                SpongeImpl.postEvent(event);
+            }
+            batchedEvents++;
+        }
+    }
+
+    public static long getSkippedScans() {
+        return skippedScans;
+    }
+
+    public static long getResolvedAdapters() {
+        return resolvedAdapters;
+    }
+
+    public static long getReusedAdapters() {
+        return reusedAdapters;
+    }
+
+    public static long getBatchedTransfers() {
+        return batchedTransfers;
+    }
+
+    public static long getBatchedEvents() {
+        return batchedEvents;
+    }
+
+    /**
+     * The inventories resolved for the transfers of a hopper.
+     */
+    public static final class Adapters {
+
+        @Nullable Inventory self;
+        @Nullable Object source;
+        @Nullable IItemHandler sourceHandler;
+        @Nullable Inventory sourceInventory;
+        @Nullable Object destination;
+        @Nullable IItemHandler destinationHandler;
+        @Nullable Inventory destinationInventory;
+    }
+
+    private static final class BatchKey {
+
+        final Inventory source;
+        final Inventory destination;
+
+        BatchKey(final Inventory source, final Inventory destination) {
+            this.source = source;
+            this.destination = destination;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey)) {
+                return false;
+            }
+            final BatchKey other = (BatchKey) o;
+            return this.source == other.source && this.destination == other.destination;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.source) + System.identityHashCode(this.destination);
+        }
+    }
+
+    private static final class PostBatch {
+
+        final TrackedInventoryBridge capture;
+        final List<SlotTransaction> transactions = new ArrayList<>();
+
+        PostBatch(final TrackedInventoryBridge capture) {
+            this.capture = capture;
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.block.state;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.BlockStateContainer;
+import net.minecraft.block.state.IBlockState;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.mod.bridge.block.BlockBridge_Forge;
+import org.spongepowered.mod.bridge.block.BlockStateBridge_Forge;
+
+@Mixin(BlockStateContainer.StateImplementation.class)
+public abstract class BlockStateContainer$StateImplementationMixin_Forge implements BlockStateBridge_Forge {
+
+    // Packed as light value in the lowest byte and opacity in the second byte, each with a flag when cached
+    private static final int LIGHT_CACHED = 1 << 16;
+    private static final int OPACITY_CACHED = 1 << 17;
+
+    @Shadow @Final private Block block;
+
+    private int forgeImpl$lightData;
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void forgeBridge$cacheLight() {
+        final IBlockState state = (IBlockState) this;
+        int lightData = 0;
+        if (!((BlockBridge_Forge) this.block).forgeBridge$requiresLocationCheckForLightValue()) {
+            lightData |= LIGHT_CACHED | (this.block.getLightValue(state) & 0xFF);
+        }
+        if (!((BlockBridge_Forge) this.block).forgeBridge$requiresLocationCheckForOpacity()) {
+            lightData |= OPACITY_CACHED | (this.block.getLightOpacity(state) & 0xFF) << 8;
+        }
+        this.forgeImpl$lightData = lightData;
+    }
+
+    @Override
+    public int forgeBridge$getCachedLightValue() {
+        final int lightData = this.forgeImpl$lightData;
+        return (lightData & LIGHT_CACHED) == 0 ? -1 : lightData & 0xFF;
+    }
+
+    @Override
+    public int forgeBridge$getCachedLightOpacity() {
+        final int lightData = this.forgeImpl$lightData;
+        return (lightData & OPACITY_CACHED) == 0 ? -1 : lightData >> 8 & 0xFF;
+    }
+
+}
@@ -103,6 +103,7 @@
 import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
 import org.spongepowered.common.bridge.world.DimensionTypeBridge;
 import org.spongepowered.common.bridge.world.ForgeITeleporterBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.command.SpongeCommandFactory;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.entity.SpongeProfession;
@@ -121,9 +122,11 @@
 import org.spongepowered.common.util.SpawnerSpawnType;
 import org.spongepowered.common.util.TristateUtil;
 import org.spongepowered.mod.bridge.block.BlockBridge_Forge;
+import org.spongepowered.mod.bridge.block.BlockStateBridge_Forge;
 import org.spongepowered.mod.bridge.event.EventBusBridge_Forge;
 import org.spongepowered.mod.bridge.item.ItemStackBridge_Forge;
 import org.spongepowered.mod.bridge.registry.VillagerProfessionBridge_Forge;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
 import org.spongepowered.mod.command.SpongeForgeCommandFactory;
 import org.spongepowered.mod.event.SpongeModEventManager;
 import org.spongepowered.mod.event.SpongeToForgeEventData;
@@ -132,6 +135,7 @@
 import org.spongepowered.mod.plugin.SpongeModPluginContainer;
 import org.spongepowered.mod.util.StaticMixinForgeHelper;
 import org.spongepowered.mod.util.WrappedArrayList;
+import org.spongepowered.mod.world.timing.TypeTickProfiler;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -319,6 +323,12 @@ public static boolean isBlockFlammable(final Block block, final IBlockAccess wor
      */
     @Overwrite
     public static int getBlockLightOpacity(final IBlockState state, final IBlockAccess world, final BlockPos pos) {
+        if (state instanceof BlockStateBridge_Forge) {
+            final int opacity = ((BlockStateBridge_Forge) state).forgeBridge$getCachedLightOpacity();
+            if (opacity >= 0) {
+                return opacity;
+            }
+        }
         return state.getLightOpacity(world, pos);
     }
 
@@ -329,6 +339,12 @@ public static int getBlockLightOpacity(final IBlockState state, final IBlockAcce
     @Overwrite
     @SuppressWarnings("deprecation")
     public static int getChunkPosLight(final IBlockState blockState, final net.minecraft.world.World worldObj, final BlockPos pos) {
+        if (blockState instanceof BlockStateBridge_Forge) {
+            final int lightValue = ((BlockStateBridge_Forge) blockState).forgeBridge$getCachedLightValue();
+            if (lightValue >= 0) {
+                return lightValue;
+            }
+        }
         if (((BlockBridge_Forge) blockState.getBlock()).forgeBridge$requiresLocationCheckForLightValue()) {
             return blockState.getLightValue(worldObj, pos);
         }
@@ -391,7 +407,10 @@ public static void onTileChunkUnload(final TileEntity te) {
      */
     @Overwrite
     public static Iterator<Chunk> getChunkIterator(final WorldServer world) {
-        return world.getPersistentChunkIterable(world.getPlayerChunkMap().getChunkIterator());
+        if (((WorldBridge) world).bridge$isFake()) {
+            return world.getPersistentChunkIterable(world.getPlayerChunkMap().getChunkIterator());
+        }
+        return ((WorldServerBridge_Forge) world).forgeBridge$getTickingChunks().start();
     }
 
     /**
@@ -674,7 +693,11 @@ public static PluginContainer getActiveModContainer() {
      */
     @Overwrite
     public static Text getAdditionalCommandDescriptions() {
-        return Text.of(SpongeCommandFactory.INDENT, SpongeCommandFactory.title("mods"), SpongeCommandFactory.LONG_INDENT, "List currently installed mods");
+        return Text.of(SpongeCommandFactory.INDENT, SpongeCommandFactory.title("mods"), SpongeCommandFactory.LONG_INDENT, "List currently installed mods", Text.NEW_LINE,
+            SpongeCommandFactory.INDENT, SpongeCommandFactory.title("perf"), SpongeCommandFactory.LONG_INDENT, "Displays SpongeForge performance metrics", Text.NEW_LINE,
+            SpongeCommandFactory.INDENT, SpongeCommandFactory.title("ticktimes"), SpongeCommandFactory.LONG_INDENT, "Displays tick time percentiles of each world", Text.NEW_LINE,
+            SpongeCommandFactory.INDENT, SpongeCommandFactory.title("tickprofile"), SpongeCommandFactory.LONG_INDENT,
+            "Displays the entity and tile entity types and chunks taking the most time to tick");
     }
 
     /**
@@ -684,6 +707,9 @@ public static Text getAdditionalCommandDescriptions() {
     @Overwrite
     public static void registerAdditionalCommands(final ChildCommandElementExecutor flagChildren, final ChildCommandElementExecutor nonFlagChildren) {
         nonFlagChildren.register(SpongeForgeCommandFactory.createSpongeModsCommand(), "mods");
+        nonFlagChildren.register(SpongeForgeCommandFactory.createSpongePerfCommand(), "perf");
+        nonFlagChildren.register(SpongeForgeCommandFactory.createSpongeTickTimesCommand(), "ticktimes");
+        nonFlagChildren.register(SpongeForgeCommandFactory.createSpongeTickProfileCommand(), "tickprofile");
     }
 
     /**
@@ -851,6 +877,7 @@ public static void onUseItemTick(final EntityLivingBase entity, final net.minecr
     @Overwrite
     public static void onTETickStart(final TileEntity tileentity) {
         net.minecraftforge.server.timings.TimeTracker.TILE_ENTITY_UPDATE.trackStart(tileentity);
+        TypeTickProfiler.start();
     }
 
     /**
@@ -859,6 +886,7 @@ public static void onTETickStart(final TileEntity tileentity) {
      */
     @Overwrite
     public static void onTETickEnd(final TileEntity tileentity) {
+        TypeTickProfiler.endTileEntity(tileentity);
         net.minecraftforge.server.timings.TimeTracker.TILE_ENTITY_UPDATE.trackEnd(tileentity);
     }
 
@@ -869,6 +897,7 @@ public static void onTETickEnd(final TileEntity tileentity) {
     @Overwrite
     public static void onEntityTickStart(final Entity entity) {
         net.minecraftforge.server.timings.TimeTracker.ENTITY_UPDATE.trackStart(entity);
+        TypeTickProfiler.start();
     }
 
     /**
@@ -877,6 +906,7 @@ public static void onEntityTickStart(final Entity entity) {
      */
     @Overwrite
     public static void onEntityTickEnd(final Entity entity) {
+        TypeTickProfiler.endEntity(entity);
         net.minecraftforge.server.timings.TimeTracker.ENTITY_UPDATE.trackEnd(entity);
     }
 
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.common.util;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.util.SpongeUsernameCache;
+import org.spongepowered.mod.util.JournaledUsernameCache;
+
+import java.io.File;
+import java.util.Map;
+import java.util.UUID;
+
+@Mixin(value = SpongeUsernameCache.class, remap = false)
+public class SpongeUsernameCacheMixin_Forge {
+
+    @Inject(method = "setServerDir", at = @At("HEAD"))
+    private static void forgeImpl$setJournalDir(final File dir, final CallbackInfo ci) {
+        JournaledUsernameCache.setServerDir(dir);
+    }
+
+    @Inject(method = "load", at = @At("HEAD"), cancellable = true)
+    private static void forgeImpl$loadJournaled(final CallbackInfo ci) {
+        JournaledUsernameCache.load();
+        if (JournaledUsernameCache.isActive()) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "save", at = @At("HEAD"), cancellable = true)
+    private static void forgeImpl$saveJournaled(final CallbackInfo ci) {
+        if (JournaledUsernameCache.isActive()) {
+            JournaledUsernameCache.save();
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "setUsername", at = @At("HEAD"), cancellable = true)
+    private static void forgeImpl$setJournaledUsername(final UUID uuid, final String username, final CallbackInfo ci) {
+        if (JournaledUsernameCache.isActive()) {
+            JournaledUsernameCache.setUsername(uuid, username);
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "removeUsername", at = @At("HEAD"), cancellable = true)
+    private static void forgeImpl$removeJournaledUsername(final UUID uuid, final CallbackInfoReturnable<Boolean> cir) {
+        if (JournaledUsernameCache.isActive()) {
+            cir.setReturnValue(JournaledUsernameCache.removeUsername(uuid));
+        }
+    }
+
+    @Inject(method = "getLastKnownUsername", at = @At("HEAD"), cancellable = true)
+    private static void forgeImpl$getJournaledUsername(final UUID uuid, final CallbackInfoReturnable<String> cir) {
+        if (JournaledUsernameCache.isActive()) {
+            cir.setReturnValue(JournaledUsernameCache.getLastKnownUsername(uuid));
+        }
+    }
+
+    @Inject(method = "containsUUID", at = @At("HEAD"), cancellable = true)
+    private static void forgeImpl$containsJournaledUUID(final UUID uuid, final CallbackInfoReturnable<Boolean> cir) {
+        if (JournaledUsernameCache.isActive()) {
+            cir.setReturnValue(JournaledUsernameCache.containsUUID(uuid));
+        }
+    }
+
+    @Inject(method = "getMap", at = @At("HEAD"), cancellable = true)
+    private static void forgeImpl$getJournaledMap(final CallbackInfoReturnable<Map<UUID, String>> cir) {
+        if (JournaledUsernameCache.isActive()) {
+            cir.setReturnValue(JournaledUsernameCache.getMap());
+        }
+    }
+
+}
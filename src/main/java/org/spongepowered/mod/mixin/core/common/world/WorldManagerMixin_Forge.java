@@ -51,12 +51,14 @@
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.entity.player.EntityPlayerMPBridge;
 import org.spongepowered.common.mixin.core.server.MinecraftServerAccessor;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.world.WorldLookup;
 
 import java.nio.file.Path;
 import java.util.Map;
@@ -71,7 +73,8 @@ public abstract class WorldManagerMixin_Forge {
     @Shadow @Final private static Int2ReferenceMap<DimensionType> dimensionTypeByTypeId;
     @Shadow @Final private static Int2ReferenceMap<DimensionType> dimensionTypeByDimensionId;
     @Shadow @Final private static Int2ObjectMap<Path> dimensionPathByDimensionId;
-    @Shadow @Final private static Int2ObjectOpenHashMap<WorldServer> worldByDimensionId;
+    // Sponge Forge - Lets the dimension id lookup know when worlds are added or removed
+    @Shadow @Final @Mutable private static Int2ObjectOpenHashMap<WorldServer> worldByDimensionId = new WorldLookup.WorldMap();
     @Shadow @Final private static Map<String, WorldProperties> worldPropertiesByFolderName;
     @Shadow @Final private static Map<UUID, WorldProperties> worldPropertiesByWorldUuid;
     @Shadow @Final private static Int2ObjectMap<String> worldFolderByDimensionId;
@@ -183,6 +186,7 @@ public static void registerDimension(int dimensionId, DimensionType type) {
         if (dimensionId >= 0) {
             usedDimensionIds.add(dimensionId);
         }
+        WorldLookup.invalidateStatic();
     }
 
     /**
@@ -212,5 +216,6 @@ public static void unregisterDimension(int dimensionId) {
         }
         worldByDimensionId.remove(dimensionId);
         worldFolderByDimensionId.remove(dimensionId);
+        WorldLookup.invalidateStatic();
     }
 }
@@ -30,6 +30,7 @@
 import com.google.common.base.Throwables;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.world.World;
@@ -80,6 +81,7 @@
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -93,6 +95,9 @@ public abstract class EventBusMixin_Forge implements EventBusBridge_Forge {
     private static final Set<Class<? extends Event>> forgeImpl$forgeListenerEventClasses = new ReferenceOpenHashSet<>();
 
     @Shadow @Final private int busID;
+
+    private final Reference2IntOpenHashMap<Class<? extends Event>> forgeImpl$listenerCounts = new Reference2IntOpenHashMap<>();
+    private final Map<Class<? extends Event>, Boolean> forgeImpl$hasListenersCache = new ConcurrentHashMap<>();
     @Shadow private IEventExceptionHandler exceptionHandler;
 
     @Nullable
@@ -290,6 +295,8 @@ public boolean post(final Event event) {
 
         forgeImpl$forgeListenerRegistry.put(listener, eventType);
         forgeImpl$forgeListenerEventClasses.add(eventType);
+        this.forgeImpl$listenerCounts.addTo(eventType, 1);
+        this.forgeImpl$hasListenersCache.clear();
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -316,6 +323,10 @@ public boolean post(final Event event) {
         if (!forgeImpl$forgeListenerRegistry.containsValue(type)) {
             forgeImpl$forgeListenerEventClasses.remove(type);
         }
+        if (this.forgeImpl$listenerCounts.addTo(type, -1) <= 1) {
+            this.forgeImpl$listenerCounts.removeInt(type);
+        }
+        this.forgeImpl$hasListenersCache.clear();
     }
 
     @Override
@@ -323,6 +334,23 @@ public boolean post(final Event event) {
         return forgeImpl$forgeListenerEventClasses;
     }
 
+    @Override
+    public boolean forgeBridge$hasListeners(final Class<? extends Event> eventClass) {
+        final Boolean cached = this.forgeImpl$hasListenersCache.get(eventClass);
+        if (cached != null) {
+            return cached;
+        }
+        boolean hasListeners = false;
+        for (final Class<? extends Event> registered : this.forgeImpl$listenerCounts.keySet()) {
+            if (registered.isAssignableFrom(eventClass)) {
+                hasListeners = true;
+                break;
+            }
+        }
+        this.forgeImpl$hasListenersCache.put(eventClass, hasListeners);
+        return hasListeners;
+    }
+
     @Override
     public int forgeBridge$getBusID() {
         return this.busID;
@@ -24,8 +24,6 @@
  */
 package org.spongepowered.mod.mixin.core.forge.common;
 
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.DimensionType;
@@ -36,27 +34,23 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.world.WorldArchetype;
 import org.spongepowered.api.world.storage.WorldProperties;
-import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Mutable;
 import org.spongepowered.asm.mixin.Overwrite;
-import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.SpongeImpl;
-import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.bridge.world.WorldSettingsBridge;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
 import org.spongepowered.mod.util.StaticMixinForgeHelper;
+import org.spongepowered.mod.world.WorldLeakDetector;
+import org.spongepowered.mod.world.WorldLookup;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Hashtable;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -66,8 +60,6 @@
 @Mixin(value = DimensionManager.class, remap = false)
 public abstract class DimensionManagerMixin_Forge {
 
-    @Shadow @Final @Mutable private static Multiset<Integer> leakedWorlds = HashMultiset.create();
-
     /**
      * @author Zidane, blood
      * @reason Reroute Forge's dimension manager to Sponge's, since we do dimension management in common.
@@ -128,9 +120,9 @@ public static DimensionType getProviderType(final int dim) {
      */
     @Overwrite
     public static WorldProvider getProvider(final int dim) {
-        final Optional<WorldServer> optWorldServer = WorldManager.getWorldByDimensionId(dim);
-        if (optWorldServer.isPresent()) {
-            return optWorldServer.get().provider;
+        final WorldServer worldServer = WorldLookup.getWorld(dim);
+        if (worldServer != null) {
+            return worldServer.provider;
         }
         SpongeImpl.getLogger().error("Attempt made to get a provider for dimension id [{}] but it has no provider!");
         throw new RuntimeException();
@@ -146,26 +138,7 @@ public static WorldProvider getProvider(final int dim) {
     @Overwrite
     public static Integer[] getIDs(final boolean check) {
         if (check) {
-
-            final List<WorldServer> candidateLeakedWorlds = new ArrayList<>(WorldManager.getWeakWorldMap().values());
-            candidateLeakedWorlds.removeAll(WorldManager.getWorlds());
-
-            leakedWorlds
-                    .addAll(candidateLeakedWorlds.stream().map(System::identityHashCode).collect(Collectors.toList()));
-
-            for (final WorldServer worldServer : WorldManager.getWorlds()) {
-                final int hashCode = System.identityHashCode(worldServer);
-                final int leakCount = leakedWorlds.count(hashCode);
-
-
-                // Log every 5 loops
-                if (leakCount > 0 && leakCount % 5 == 0) {
-                    SpongeImpl.getLogger().warn("World {} ({}/{}) (HASH: {}) may have leaked. Encountered [{}] times",
-                        worldServer.getWorldInfo().getWorldName(),
-                        ((org.spongepowered.api.world.DimensionType) (Object) worldServer.provider.getDimensionType()).getId(),
-                        ((WorldServerBridge) worldServer).bridge$getDimensionId(), hashCode, leakCount);
-                }
-            }
+            WorldLeakDetector.check();
         }
 
         return getIDs();
@@ -177,12 +150,8 @@ public static Integer[] getIDs(final boolean check) {
      */
     @Overwrite
     public static Integer[] getIDs() {
-        final int[] spongeDimIds = WorldManager.getLoadedWorldDimensionIds();
-        final Integer[] forgeDimIds = new Integer[spongeDimIds.length];
-        for (int i = 0; i < spongeDimIds.length; i++) {
-            forgeDimIds[i] = spongeDimIds[i];
-        }
-        return forgeDimIds;
+        // Callers are free to modify the array, the cached one is shared
+        return WorldLookup.getLoadedIds().clone();
     }
 
     /**
@@ -216,7 +185,10 @@ public static void setWorld(final int id, final WorldServer world, final Minecra
     public static void initDimension(final int dim) {
 
         // World is already loaded, bail
-        if (WorldManager.getWorldByDimensionId(dim).isPresent()) {
+        final WorldServer loaded = WorldManager.getWorldByDimensionId(dim).orElse(null);
+        if (loaded != null) {
+            // Sponge - a hibernating world is loaded but must start ticking again
+            ((WorldServerBridge_Forge) loaded).forgeBridge$getHibernation().wake();
             return;
         }
 
@@ -275,7 +247,7 @@ public static void initDimension(final int dim) {
      */
     @Overwrite
     public static WorldServer getWorld(final int id) {
-        return WorldManager.getWorldByDimensionId(id).orElse(null);
+        return WorldLookup.getWorld(id);
     }
 
     /**
@@ -294,12 +266,7 @@ public static WorldServer[] getWorlds() {
      */
     @Overwrite
     public static Integer[] getStaticDimensionIDs() {
-        final int[] spongeDimIds = WorldManager.getRegisteredDimensionIds();
-        final Integer[] forgeDimIds = new Integer[spongeDimIds.length];
-        for (int i = 0; i < spongeDimIds.length; i++) {
-            forgeDimIds[i] = spongeDimIds[i];
-        }
-        return forgeDimIds;
+        return WorldLookup.getStaticIds().clone();
     }
 
     /**
@@ -47,6 +47,7 @@
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.bridge.inventory.TrackedInventoryBridge;
 import org.spongepowered.common.item.inventory.util.InventoryUtil;
+import org.spongepowered.mod.item.inventory.HopperTransfers;
 
 import javax.annotation.Nullable;
 
@@ -61,6 +62,27 @@ public abstract class VanillaInventoryCodeHooksMixin_Forge {
         throw new AbstractMethodError("Shadow");
     }
 
+    @Shadow(remap = false) private static boolean isFull(final IItemHandler itemHandler) {
+        throw new AbstractMethodError("Shadow");
+    }
+
+    // Skip Known Empty or Full Inventories
+
+    @Inject(method = "insertHook", cancellable = true, locals = LocalCapture.CAPTURE_FAILEXCEPTION, at = @At(value = "INVOKE",
+            target = "Lnet/minecraftforge/items/VanillaInventoryCodeHooks;isFull(Lnet/minecraftforge/items/IItemHandler;)Z"))
+    private static void onCheckFull(final TileEntityHopper hopper, final CallbackInfoReturnable<Boolean> cir, final EnumFacing hopperFacing,
+            final Pair<IItemHandler, Object> destinationResult, final IItemHandler itemHandler, final Object destination) {
+        if (!HopperTransfers.canRememberState(destination, itemHandler)) {
+            return;
+        }
+        if (HopperTransfers.isFull(destination, itemHandler, hopperFacing)) {
+            cir.setReturnValue(false);
+        } else if (isFull(itemHandler)) {
+            HopperTransfers.setFull(destination, itemHandler, hopperFacing);
+            cir.setReturnValue(false);
+        }
+    }
+
     // Call Pre Events
 
     @Inject(method = "insertHook", cancellable = true, locals = LocalCapture.CAPTURE_FAILEXCEPTION, at = @At(value = "INVOKE",
@@ -68,7 +90,8 @@ public abstract class VanillaInventoryCodeHooksMixin_Forge {
     private static void onTransferItemsOut(final TileEntityHopper hopper, final CallbackInfoReturnable<Boolean> cir, final EnumFacing hopperFacing,
             final Pair<IItemHandler, Object> destinationResult, final IItemHandler itemHandler, final Object destination) {
         if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
-            if (SpongeCommonEventFactory.callTransferPre(InventoryUtil.toInventory(hopper, null), InventoryUtil.toInventory(destination, itemHandler)).isCancelled()) {
+            if (SpongeCommonEventFactory.callTransferPre(HopperTransfers.getInventory(hopper),
+                    HopperTransfers.getDestinationInventory(hopper, destination, itemHandler)).isCancelled()) {
                 cir.setReturnValue(true);
             }
         }
@@ -77,21 +100,35 @@ private static void onTransferItemsOut(final TileEntityHopper hopper, final Call
     @Inject(remap = false, method = "extractHook", cancellable = true, locals = LocalCapture.CAPTURE_FAILEXCEPTION,
             at = @At(value = "INVOKE", target = "Lorg/apache/commons/lang3/tuple/Pair;getKey()Ljava/lang/Object;"))
     private static void onExtractHook(final IHopper hopper, final CallbackInfoReturnable<Boolean> cir, final Pair<IItemHandler, Object> itemHandlerResult) {
-        if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
-            final IItemHandler itemHandler = itemHandlerResult.getKey();
-            for (int i = 0; i < itemHandler.getSlots(); i++) {
-                // Find first item that can be extracted
-                if (!itemHandler.extractItem(i, 1, true).isEmpty()) {
-                    final Inventory source = InventoryUtil.toInventory(itemHandlerResult.getValue(), itemHandler);
+        final IItemHandler itemHandler = itemHandlerResult.getKey();
+        final Object sourceObject = itemHandlerResult.getValue();
+        final boolean rememberState = HopperTransfers.canRememberState(sourceObject, itemHandler);
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE && !rememberState) {
+            return;
+        }
+        if (rememberState && HopperTransfers.hasNothingToExtract(sourceObject, itemHandler)) {
+            cir.setReturnValue(false);
+            return;
+        }
+        for (int i = 0; i < itemHandler.getSlots(); i++) {
+            // Find first item that can be extracted
+            if (!itemHandler.extractItem(i, 1, true).isEmpty()) {
+                if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
+                    final Inventory source = HopperTransfers.getSourceInventory(hopper, sourceObject, itemHandler);
                     if (source.totalItems() != 0) {
-                        if (SpongeCommonEventFactory.callTransferPre(source, InventoryUtil.toInventory(hopper, null)).isCancelled()) {
+                        if (SpongeCommonEventFactory.callTransferPre(source, HopperTransfers.getInventory(hopper)).isCancelled()) {
                             cir.setReturnValue(false);
                         }
                     }
-                    break;
                 }
+                return;
             }
         }
+        if (rememberState) {
+            HopperTransfers.setNothingToExtract(sourceObject, itemHandler);
+        }
+        // The hook would not find anything to extract either
+        cir.setReturnValue(false);
     }
 
     @Inject(method = "dropperInsertHook", cancellable = true, locals = LocalCapture.CAPTURE_FAILEXCEPTION,
@@ -113,7 +150,8 @@ private static void onDispense(final World world, final BlockPos pos, final Tile
                     + "Lnet/minecraftforge/items/IItemHandler;Lnet/minecraft/item/ItemStack;I)Lnet/minecraft/item/ItemStack;"))
     private static ItemStack onInsertStack(final TileEntity source, final Object destination, final IItemHandler destInventory, final ItemStack stack, final int slot) {
         if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
-            return SpongeCommonEventFactory.captureTransaction(InventoryUtil.forCapture(source), InventoryUtil.toInventory(destination, destInventory), slot,
+            return SpongeCommonEventFactory.captureTransaction(InventoryUtil.forCapture(source),
+                    HopperTransfers.getDestinationInventory(source, destination, destInventory), slot,
                     () -> insertStack(source, destination, destInventory, stack, slot));
         }
         return insertStack(source, destination, destInventory, stack, slot);
@@ -123,11 +161,14 @@ private static ItemStack onInsertStack(final TileEntity source, final Object des
             at = @At(value = "INVOKE", target = "Lnet/minecraftforge/items/IItemHandler;extractItem(IIZ)Lnet/minecraft/item/ItemStack;", ordinal = 1))
     private static ItemStack onPullItemOut(final IItemHandler handler, final int slot, final int amount, final boolean simulate, final IHopper dest) {
         if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
-            final Object inv = getItemHandler(dest, EnumFacing.UP).getValue();
+            Inventory source = HopperTransfers.getLastSourceInventory(dest, handler);
+            if (source == null) {
+                source = HopperTransfers.getSourceInventory(dest, getItemHandler(dest, EnumFacing.UP).getValue(), handler);
+            }
             final ItemStack origin = handler.getStackInSlot(slot).copy(); // Capture Origin
             final ItemStack result = handler.extractItem(slot, amount, simulate);
             if (!result.isEmpty()) {
-                SpongeCommonEventFactory.captureTransaction(InventoryUtil.forCapture(dest), InventoryUtil.toInventory(inv, handler), slot, origin);
+                SpongeCommonEventFactory.captureTransaction(InventoryUtil.forCapture(dest), source, slot, origin);
             }
             return result;
         }
@@ -141,7 +182,7 @@ private static void onPullItemIn(final IHopper dest, final int index, final Item
             final ItemStack destStack = dest.getStackInSlot(index).copy(); // Capture Origin
             destStack.shrink(1);
             dest.setInventorySlotContents(index, stack);
-            SpongeCommonEventFactory.captureTransaction(InventoryUtil.forCapture(dest), InventoryUtil.toInventory(dest, null), index, destStack);
+            SpongeCommonEventFactory.captureTransaction(InventoryUtil.forCapture(dest), HopperTransfers.getInventory(dest), index, destStack);
         } else {
             dest.setInventorySlotContents(index, stack);
         }
@@ -163,10 +204,10 @@ private static void afterPutStackInSlots(final TileEntityHopper hopper, final Ca
                 if (capture == null) {
                     return;
                 }
-                final Inventory sInv = InventoryUtil.toInventory(hopper, null);
-                final Inventory dInv = InventoryUtil.toInventory(destination, itemHandler);
+                final Inventory sInv = HopperTransfers.getInventory(hopper);
+                final Inventory dInv = HopperTransfers.getDestinationInventory(hopper, destination, itemHandler);
                 SpongeCommonEventFactory.captureTransaction(capture, sInv, i, originalSlotContents);
-                if (SpongeCommonEventFactory.callTransferPost(capture, sInv, dInv)) {
+                if (HopperTransfers.callTransferPost(capture, sInv, dInv)) {
                     if (originalSlotContents.isEmpty()) {
                         cir.setReturnValue(true);
                     }
@@ -180,7 +221,8 @@ private static void afterPutStackInSlots(final TileEntityHopper hopper, final Ca
     private static void onPullItemsDone(final IHopper dest, final CallbackInfoReturnable<Boolean> cir, final Pair<IItemHandler, Object> itemHandlerResult,
             final IItemHandler handler, final int i, final ItemStack extractItem, final int j, final ItemStack destStack) {
         if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
-            SpongeCommonEventFactory.callTransferPost(InventoryUtil.forCapture(dest), InventoryUtil.toInventory(itemHandlerResult.getValue(), handler), InventoryUtil.toInventory(dest, null));
+            HopperTransfers.callTransferPost(InventoryUtil.forCapture(dest), HopperTransfers.getSourceInventory(dest, itemHandlerResult.getValue(), handler),
+                    HopperTransfers.getInventory(dest));
         }
     }
 
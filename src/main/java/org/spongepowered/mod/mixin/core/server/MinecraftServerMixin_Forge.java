@@ -37,14 +37,23 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.At.Shift;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
 import org.spongepowered.common.bridge.server.management.PlayerProfileCacheBridge;
-import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge_AsyncLighting;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
+import org.spongepowered.mod.world.WorldLeakDetector;
+import org.spongepowered.mod.world.WorldLookup;
+import org.spongepowered.mod.world.storage.AsyncChunkSaving;
+import org.spongepowered.mod.world.storage.PacedAutoSave;
+import org.spongepowered.mod.world.timing.TickTimingsCsvWriter;
+import org.spongepowered.mod.world.timing.TypeTickProfiler;
+import org.spongepowered.mod.world.timing.WorldTickTimings;
 
+import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -74,6 +83,58 @@ public abstract class MinecraftServerMixin_Forge implements MinecraftServerBridg
         this.worldTickTimes.remove(dimensionId);
     }
 
+    @Redirect(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraftforge/common/DimensionManager;getIDs(Z)[Ljava/lang/Integer;",
+            remap = false))
+    private Integer[] forgeImpl$skipIdleWorlds(final boolean check) {
+        if (check) {
+            WorldLeakDetector.check();
+        }
+        // Read the cached ids directly, getIDs copies them for other callers
+        final Integer[] ids = WorldLookup.getLoadedIds();
+        final int tick = ((MinecraftServer) (Object) this).getTickCounter();
+        // The ids are shared, only copied when a world is skipped
+        Integer[] ticking = ids;
+        int count = 0;
+        for (int index = 0; index < ids.length; index++) {
+            final WorldServer worldServer = WorldLookup.getWorld(ids[index]);
+            if (worldServer == null || ((WorldServerBridge_Forge) worldServer).forgeBridge$getHibernation().tick(tick)
+                    && ((WorldServerBridge_Forge) worldServer).forgeBridge$getReducedTickRate().tick(tick)) {
+                if (ticking != ids) {
+                    ticking[count] = ids[index];
+                }
+                count++;
+            } else if (ticking == ids) {
+                ticking = Arrays.copyOf(ids, ids.length);
+            }
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ticking, count);
+    }
+
+    @Inject(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/WorldServer;updateEntities()V"),
+        locals = LocalCapture.CAPTURE_FAILHARD)
+    private void forgeImpl$startEntityTickTimings(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
+        final WorldServer worldServer) {
+        TypeTickProfiler.reset();
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getTickTimings().startEntities();
+    }
+
+    @Inject(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/WorldServer;updateEntities()V",
+            shift = Shift.AFTER),
+        locals = LocalCapture.CAPTURE_FAILHARD)
+    private void forgeImpl$stopEntityTickTimings(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
+        final WorldServer worldServer) {
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getTickTimings().stopEntities();
+    }
+
     @Inject(method = "updateTimeLightAndEntities",
         at = @At(
             value = "INVOKE",
@@ -82,10 +143,97 @@ public abstract class MinecraftServerMixin_Forge implements MinecraftServerBridg
         locals = LocalCapture.CAPTURE_FAILHARD)
     private void forgeImpl$UpdateChunkGC(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
         final WorldServer worldServer) {
-        final WorldServerBridge spongeWorld = (WorldServerBridge) worldServer;
-        if (spongeWorld.bridge$getChunkGCTickInterval() > 0) {
-            spongeWorld.bridge$doChunkGC();
-        }
+        final WorldTickTimings timings = ((WorldServerBridge_Forge) worldServer).forgeBridge$getTickTimings();
+        final long start = timings.start();
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getChunkGC().tick();
+        timings.stop(WorldTickTimings.Phase.CHUNK_GC, start);
+    }
+
+    @Inject(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/WorldServer;updateEntities()V",
+            shift = Shift.AFTER),
+        locals = LocalCapture.CAPTURE_FAILHARD)
+    private void forgeImpl$populateQueuedChunks(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
+        final WorldServer worldServer) {
+        final WorldTickTimings timings = ((WorldServerBridge_Forge) worldServer).forgeBridge$getTickTimings();
+        final long start = timings.start();
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getPopulationScheduler().tick();
+        timings.stop(WorldTickTimings.Phase.POPULATION, start);
+    }
+
+    @Inject(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/WorldServer;updateEntities()V",
+            shift = Shift.AFTER),
+        locals = LocalCapture.CAPTURE_FAILHARD)
+    private void forgeImpl$processQueuedLightChecks(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
+        final WorldServer worldServer) {
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getLightUpdateQueue().tick();
+    }
+
+    @Inject(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/WorldServer;updateEntities()V",
+            shift = Shift.AFTER),
+        locals = LocalCapture.CAPTURE_FAILHARD)
+    private void forgeImpl$savePacedChunks(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
+        final WorldServer worldServer) {
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getPacedAutoSave().tick();
+    }
+
+    @Inject(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/WorldServer;updateEntities()V",
+            shift = Shift.AFTER),
+        locals = LocalCapture.CAPTURE_FAILHARD)
+    private void forgeImpl$mergeDroppedItems(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
+        final WorldServer worldServer) {
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getItemMerger().tick();
+    }
+
+    @Inject(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/WorldServer;updateEntities()V",
+            shift = Shift.AFTER),
+        locals = LocalCapture.CAPTURE_FAILHARD)
+    private void forgeImpl$catchUpSkippedTicks(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
+        final WorldServer worldServer) {
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getReducedTickRate().catchUp();
+    }
+
+    @Inject(method = "updateTimeLightAndEntities",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraftforge/fml/common/FMLCommonHandler;onPostWorldTick(Lnet/minecraft/world/World;)V",
+            shift = Shift.AFTER,
+            remap = false),
+        locals = LocalCapture.CAPTURE_FAILHARD)
+    private void forgeImpl$recordWorldTickTime(final CallbackInfo ci, final Integer[] ids, final int x, final int id, final long i,
+        final WorldServer worldServer) {
+        // Same span as Forge's own world tick times, which start before the pre world tick event
+        ((WorldServerBridge_Forge) worldServer).forgeBridge$getTickTimings().recordWorldTick(System.nanoTime() - i);
+    }
+
+    @Inject(method = "updateTimeLightAndEntities", at = @At("RETURN"))
+    private void forgeImpl$writeTickTimings(final CallbackInfo ci) {
+        TickTimingsCsvWriter.tick(((MinecraftServer) (Object) this).getTickCounter());
+    }
+
+    @Inject(method = "saveAllWorlds", at = @At("HEAD"))
+    private void forgeImpl$markAutoSave(final boolean isSilent, final CallbackInfo ci) {
+        // The periodic save is the only silent one on a dedicated server
+        PacedAutoSave.setAutoSaving(isSilent);
+    }
+
+    @Inject(method = "saveAllWorlds", at = @At("RETURN"))
+    private void forgeImpl$unmarkAutoSave(final boolean isSilent, final CallbackInfo ci) {
+        PacedAutoSave.setAutoSaving(false);
     }
 
     /**
@@ -97,10 +245,10 @@ public abstract class MinecraftServerMixin_Forge implements MinecraftServerBridg
      */
     @Overwrite
     public WorldServer getWorld(final int dimensionId) {
-        WorldServer ret = WorldManager.getWorldByDimensionId(dimensionId).orElse(null);
+        WorldServer ret = WorldLookup.getWorld(dimensionId);
         if (ret == null) {
             DimensionManager.initDimension(dimensionId);
-            ret = WorldManager.getWorldByDimensionId(dimensionId).orElse(null);
+            ret = WorldLookup.getWorld(dimensionId);
         }
 
         if (ret == null) {
@@ -151,6 +299,8 @@ public void stopServer()
             }
 
             server.saveAllWorlds(false);
+            // Sponge - Encode all chunk sections before the worlds are flushed
+            AsyncChunkSaving.flush();
 
             for (final WorldServer worldserver1 : server.worlds)
             {
@@ -31,15 +31,21 @@
 import org.spongepowered.api.block.tileentity.TileEntityType;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.data.DataCompoundHolder;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.mod.bridge.tileentity.TileEntityBridge_Forge;
+import org.spongepowered.mod.world.TileEntitySleep;
 
 import java.util.Set;
 
 @Mixin(TileEntity.class)
-public abstract class TileEntityMixin_Forge implements DataCompoundHolder {
+public abstract class TileEntityMixin_Forge implements DataCompoundHolder, TileEntityBridge_Forge {
 
     @Shadow(remap = false) private NBTTagCompound customTileData;
 
@@ -47,6 +53,92 @@ public abstract class TileEntityMixin_Forge implements DataCompoundHolder {
 
     private boolean forge$isGettingTileData = false;
     private static final Set<TileEntityType> FORGEIMPL$REPORTED_RECURSIVE_TILES = new ConcurrentSet<>();
+    private boolean forgeImpl$sleeping;
+    private long forgeImpl$wakeTick;
+    private int forgeImpl$idleTicks;
+    private boolean forgeImpl$changed;
+    private int forgeImpl$knownInventoryState;
+    private long forgeImpl$knownInventoryStateExpiry;
+
+    @Override
+    public boolean forgeBridge$isSleeping() {
+        return this.forgeImpl$sleeping;
+    }
+
+    @Override
+    public long forgeBridge$getWakeTick() {
+        return this.forgeImpl$wakeTick;
+    }
+
+    @Override
+    public void forgeBridge$setSleeping(final boolean sleeping, final long wakeTick) {
+        this.forgeImpl$sleeping = sleeping;
+        this.forgeImpl$wakeTick = wakeTick;
+    }
+
+    @Override
+    public int forgeBridge$getIdleTicks() {
+        return this.forgeImpl$idleTicks;
+    }
+
+    @Override
+    public void forgeBridge$setIdleTicks(final int idleTicks) {
+        this.forgeImpl$idleTicks = idleTicks;
+    }
+
+    @Override
+    public boolean forgeBridge$pollChanged() {
+        final boolean changed = this.forgeImpl$changed;
+        this.forgeImpl$changed = false;
+        return changed;
+    }
+
+    @Override
+    public int forgeBridge$getKnownInventoryState() {
+        return this.forgeImpl$knownInventoryState;
+    }
+
+    @Override
+    public long forgeBridge$getKnownInventoryStateExpiry() {
+        return this.forgeImpl$knownInventoryStateExpiry;
+    }
+
+    @Override
+    public void forgeBridge$setKnownInventoryState(final int state, final long expiry) {
+        this.forgeImpl$knownInventoryState = state;
+        this.forgeImpl$knownInventoryStateExpiry = expiry;
+    }
+
+    @Inject(method = "markDirty", at = @At("HEAD"))
+    private void forgeImpl$wakeOnChange(final CallbackInfo ci) {
+        this.forgeImpl$changed = true;
+        this.forgeImpl$knownInventoryState = 0;
+        if (this.forgeImpl$sleeping) {
+            TileEntitySleep.wake((TileEntity) (Object) this);
+        }
+    }
+
+    @Inject(method = "getCapability", at = @At("HEAD"), remap = false)
+    private void forgeImpl$wakeOnCapabilityLookup(final CallbackInfoReturnable<Object> cir) {
+        if (this.forgeImpl$sleeping) {
+            TileEntitySleep.wake((TileEntity) (Object) this);
+        }
+    }
+
+    // Keeps the sleeping counts right for tile entities removed or unloaded while asleep
+    @Inject(method = "invalidate", at = @At("HEAD"))
+    private void forgeImpl$wakeOnInvalidate(final CallbackInfo ci) {
+        if (this.forgeImpl$sleeping) {
+            TileEntitySleep.wake((TileEntity) (Object) this);
+        }
+    }
+
+    @Inject(method = "onChunkUnload", at = @At("HEAD"), remap = false)
+    private void forgeImpl$wakeOnChunkUnload(final CallbackInfo ci) {
+        if (this.forgeImpl$sleeping) {
+            TileEntitySleep.wake((TileEntity) (Object) this);
+        }
+    }
 
 
     @Override
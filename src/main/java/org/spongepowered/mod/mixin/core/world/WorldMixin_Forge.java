@@ -28,6 +28,7 @@
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.EnumSkyBlock;
@@ -38,6 +39,7 @@
 import net.minecraft.world.storage.MapStorage;
 import net.minecraft.world.storage.WorldInfo;
 import net.minecraftforge.common.DimensionManager;
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Dynamic;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -54,7 +56,10 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.mod.bridge.world.WorldBridge_Forge;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
 import org.spongepowered.mod.event.CapturedSnapshotWrapperList;
+import org.spongepowered.mod.item.inventory.HopperTransfers;
+import org.spongepowered.mod.world.TileEntitySleep;
 
 import javax.annotation.Nullable;
 
@@ -63,6 +68,7 @@
 public abstract class WorldMixin_Forge implements WorldBridge_Forge {
 
     private WorldInfo forgeImpl$redirectWorldInfo;
+    @Nullable private TileEntity forgeImpl$tickingTileEntity;
 
     @Shadow(remap = false) public java.util.ArrayList<net.minecraftforge.common.util.BlockSnapshot> capturedBlockSnapshots;
     @Shadow @Final public WorldProvider provider;
@@ -129,6 +135,38 @@ private int getRawLight(final BlockPos pos, final EnumSkyBlock lightType) {
         }
     }
 
+    @Inject(method = "checkLight(Lnet/minecraft/util/math/BlockPos;)Z", at = @At("HEAD"), cancellable = true)
+    private void forgeImpl$queueLightCheck(final BlockPos pos, final CallbackInfoReturnable<Boolean> cir) {
+        if ((Object) this instanceof WorldServer && !((WorldBridge) this).bridge$isFake()
+                && ((WorldServerBridge_Forge) this).forgeBridge$getLightUpdateQueue().queue(pos)) {
+            cir.setReturnValue(true);
+        }
+    }
+
+    @Inject(method = "updateEntities",
+        at = @At(value = "FIELD", target = "Lnet/minecraft/world/World;processingLoadedTiles:Z", opcode = Opcodes.PUTFIELD, ordinal = 0))
+    private void forgeImpl$startTileEntityTickTimings(final CallbackInfo ci) {
+        if ((Object) this instanceof WorldServer && !((WorldBridge) this).bridge$isFake()) {
+            ((WorldServerBridge_Forge) this).forgeBridge$getTickTimings().startTileEntities();
+        }
+    }
+
+    @Inject(method = "updateEntities",
+        at = @At(value = "FIELD", target = "Lnet/minecraft/world/World;processingLoadedTiles:Z", opcode = Opcodes.PUTFIELD, ordinal = 1))
+    private void forgeImpl$stopTileEntityTickTimings(final CallbackInfo ci) {
+        if ((Object) this instanceof WorldServer && !((WorldBridge) this).bridge$isFake()) {
+            ((WorldServerBridge_Forge) this).forgeBridge$getTickTimings().stopTileEntities();
+        }
+    }
+
+    @Inject(method = "updateEntities",
+        at = @At(value = "FIELD", target = "Lnet/minecraft/world/World;processingLoadedTiles:Z", opcode = Opcodes.PUTFIELD, ordinal = 1))
+    private void forgeImpl$firePendingTransferPosts(final CallbackInfo ci) {
+        if (!this.isRemote) {
+            HopperTransfers.firePendingPosts();
+        }
+    }
+
     @Redirect(method = "updateEntities",
         at = @At(
             value = "INVOKE",
@@ -140,7 +178,32 @@ private int getRawLight(final BlockPos pos, final EnumSkyBlock lightType) {
         )
     )
     private boolean forgeImpl$useTileActiveChunk(final World world, final BlockPos pos, final boolean allowEmpty) {
-        return true; // If we got to here, we already have the method `bridge$shouldTick()` passing
+        // If we got to here, we already have the method `bridge$shouldTick()` passing
+        final TileEntity tileEntity = this.forgeImpl$tickingTileEntity;
+        this.forgeImpl$tickingTileEntity = null;
+        return tileEntity == null || this.isRemote || !TileEntitySleep.shouldSkip(tileEntity);
+    }
+
+    @Redirect(method = "updateEntities",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntity;getPos()Lnet/minecraft/util/math/BlockPos;"),
+        slice = @Slice(
+            from = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntity;isInvalid()Z", ordinal = 0),
+            to = @At(value = "INVOKE", target = "Lnet/minecraft/world/border/WorldBorder;contains(Lnet/minecraft/util/math/BlockPos;)Z")
+        )
+    )
+    private BlockPos forgeImpl$captureTickingTileEntity(final TileEntity tileEntity) {
+        this.forgeImpl$tickingTileEntity = tileEntity;
+        return tileEntity.getPos();
+    }
+
+    @Inject(method = "neighborChanged", at = @At("HEAD"))
+    private void forgeImpl$wakeSleepingTileEntity(final BlockPos pos, final Block blockIn, final BlockPos fromPos, final CallbackInfo ci) {
+        TileEntitySleep.wakeAt((World) (Object) this, pos);
+    }
+
+    @Inject(method = "updateComparatorOutputLevel", at = @At("HEAD"))
+    private void forgeImpl$wakeSleepingNeighbors(final BlockPos pos, final Block blockIn, final CallbackInfo ci) {
+        TileEntitySleep.wakeAround((World) (Object) this, pos);
     }
 
     /**
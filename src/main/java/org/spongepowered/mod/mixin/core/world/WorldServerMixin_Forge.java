@@ -27,6 +27,7 @@
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.IProgressUpdate;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -37,7 +38,9 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
@@ -47,10 +50,38 @@
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
+import org.spongepowered.mod.world.ActivationGrid;
+import org.spongepowered.mod.world.DormantChunkCache;
+import org.spongepowered.mod.world.IncrementalChunkGC;
+import org.spongepowered.mod.world.ItemMerger;
+import org.spongepowered.mod.world.LightUpdateQueue;
+import org.spongepowered.mod.world.ReducedTickRate;
+import org.spongepowered.mod.world.TickingChunkIterator;
+import org.spongepowered.mod.world.WorldLeakDetector;
+import org.spongepowered.mod.world.WorldHibernation;
+import org.spongepowered.mod.world.gen.ChunkPopulationScheduler;
 import org.spongepowered.mod.world.gen.SpongeChunkGeneratorForge;
+import org.spongepowered.mod.world.storage.AsyncChunkSaving;
+import org.spongepowered.mod.world.storage.PacedAutoSave;
+import org.spongepowered.mod.world.timing.WorldTickTimings;
+
+import javax.annotation.Nullable;
 
 @Mixin(value = WorldServer.class, priority = 1001)
-public abstract class WorldServerMixin_Forge extends WorldMixin_Forge implements WorldServerBridge {
+public abstract class WorldServerMixin_Forge extends WorldMixin_Forge implements WorldServerBridge, WorldServerBridge_Forge {
+
+    @Nullable private ChunkPopulationScheduler forgeImpl$populationScheduler;
+    @Nullable private IncrementalChunkGC forgeImpl$chunkGC;
+    @Nullable private DormantChunkCache forgeImpl$dormantChunkCache;
+    @Nullable private WorldHibernation forgeImpl$hibernation;
+    @Nullable private LightUpdateQueue forgeImpl$lightUpdateQueue;
+    @Nullable private TickingChunkIterator forgeImpl$tickingChunks;
+    @Nullable private PacedAutoSave forgeImpl$pacedAutoSave;
+    @Nullable private WorldTickTimings forgeImpl$tickTimings;
+    @Nullable private ReducedTickRate forgeImpl$reducedTickRate;
+    @Nullable private ActivationGrid forgeImpl$activationGrid;
+    @Nullable private ItemMerger forgeImpl$itemMerger;
 
     @Override
     public int bridge$getDimensionId() {
@@ -140,6 +171,128 @@ public boolean isBlockModifiable(final EntityPlayer player, final BlockPos pos)
         return false;
     }
 
+    @Override
+    public ChunkPopulationScheduler forgeBridge$getPopulationScheduler() {
+        if (this.forgeImpl$populationScheduler == null) {
+            this.forgeImpl$populationScheduler = new ChunkPopulationScheduler((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$populationScheduler;
+    }
+
+    @Override
+    public IncrementalChunkGC forgeBridge$getChunkGC() {
+        if (this.forgeImpl$chunkGC == null) {
+            this.forgeImpl$chunkGC = new IncrementalChunkGC((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$chunkGC;
+    }
+
+    @Override
+    public DormantChunkCache forgeBridge$getDormantChunkCache() {
+        if (this.forgeImpl$dormantChunkCache == null) {
+            this.forgeImpl$dormantChunkCache = new DormantChunkCache((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$dormantChunkCache;
+    }
+
+    @Override
+    public WorldHibernation forgeBridge$getHibernation() {
+        if (this.forgeImpl$hibernation == null) {
+            this.forgeImpl$hibernation = new WorldHibernation((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$hibernation;
+    }
+
+    @Override
+    public LightUpdateQueue forgeBridge$getLightUpdateQueue() {
+        if (this.forgeImpl$lightUpdateQueue == null) {
+            this.forgeImpl$lightUpdateQueue = new LightUpdateQueue((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$lightUpdateQueue;
+    }
+
+    @Override
+    public TickingChunkIterator forgeBridge$getTickingChunks() {
+        if (this.forgeImpl$tickingChunks == null) {
+            this.forgeImpl$tickingChunks = new TickingChunkIterator((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$tickingChunks;
+    }
+
+    @Override
+    public PacedAutoSave forgeBridge$getPacedAutoSave() {
+        if (this.forgeImpl$pacedAutoSave == null) {
+            this.forgeImpl$pacedAutoSave = new PacedAutoSave((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$pacedAutoSave;
+    }
+
+    @Override
+    public WorldTickTimings forgeBridge$getTickTimings() {
+        if (this.forgeImpl$tickTimings == null) {
+            this.forgeImpl$tickTimings = new WorldTickTimings((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$tickTimings;
+    }
+
+    @Override
+    public ReducedTickRate forgeBridge$getReducedTickRate() {
+        if (this.forgeImpl$reducedTickRate == null) {
+            this.forgeImpl$reducedTickRate = new ReducedTickRate((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$reducedTickRate;
+    }
+
+    @Override
+    public ActivationGrid forgeBridge$getActivationGrid() {
+        if (this.forgeImpl$activationGrid == null) {
+            this.forgeImpl$activationGrid = new ActivationGrid((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$activationGrid;
+    }
+
+    @Override
+    public ItemMerger forgeBridge$getItemMerger() {
+        if (this.forgeImpl$itemMerger == null) {
+            this.forgeImpl$itemMerger = new ItemMerger((WorldServer) (Object) this);
+        }
+        return this.forgeImpl$itemMerger;
+    }
+
+    @Inject(method = "saveAllChunks", at = @At("HEAD"))
+    private void forgeImpl$startPacedAutoSave(final boolean all, @Nullable final IProgressUpdate progressCallback, final CallbackInfo ci) {
+        if (!((WorldBridge) this).bridge$isFake()) {
+            this.forgeBridge$getPacedAutoSave().onSave(all);
+        }
+    }
+
+    @Inject(method = "saveAllChunks", at = @At("RETURN"))
+    private void forgeImpl$endPacedAutoSave(final boolean all, @Nullable final IProgressUpdate progressCallback, final CallbackInfo ci) {
+        if (this.forgeImpl$pacedAutoSave != null) {
+            this.forgeImpl$pacedAutoSave.onSaved();
+        }
+    }
+
+    @Inject(method = "flush", at = @At("HEAD"))
+    private void forgeImpl$encodeQueuedSections(final CallbackInfo ci) {
+        // The chunk loader is flushed when the world unloads, every section must be encoded by then
+        AsyncChunkSaving.flush();
+    }
+
+    @Inject(method = "flush", at = @At("HEAD"))
+    private void forgeImpl$trackUnloadedWorld(final CallbackInfo ci) {
+        if (!((WorldBridge) this).bridge$isFake()) {
+            WorldLeakDetector.track((WorldServer) (Object) this);
+        }
+    }
+
+    @Inject(method = "flush", at = @At("HEAD"))
+    private void forgeImpl$unregisterTickTimings(final CallbackInfo ci) {
+        if (this.forgeImpl$tickTimings != null) {
+            this.forgeImpl$tickTimings.unregister();
+        }
+    }
+
     @Override
     public void bridge$setProviderGenerator(final SpongeChunkGenerator newGenerator) {
         // We don't want to override the provider's generator.
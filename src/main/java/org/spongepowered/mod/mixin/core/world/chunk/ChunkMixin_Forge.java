@@ -28,7 +28,10 @@
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraftforge.fml.common.eventhandler.Event;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
 import net.minecraftforge.fml.relauncher.Side;
@@ -43,10 +46,15 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
+import org.spongepowered.mod.bridge.world.chunk.ChunkBridge_Forge;
+import org.spongepowered.mod.world.DormantChunkCache;
+import org.spongepowered.mod.world.gen.ChunkPopulationScheduler;
 
 @Mixin(value = Chunk.class, priority = 1001)
-public abstract class ChunkMixin_Forge implements ChunkBridge {
+public abstract class ChunkMixin_Forge implements ChunkBridge, ChunkBridge_Forge {
 
     @Shadow @Final private net.minecraft.world.World world;
     @Shadow @Final public int x;
@@ -56,6 +64,10 @@ public abstract class ChunkMixin_Forge implements ChunkBridge {
     @Shadow public abstract IBlockState getBlockState(BlockPos pos);
     @Shadow public abstract IBlockState getBlockState(int x, int y, int z);
     @Shadow public abstract int getTopFilledSegment();
+    @Shadow public abstract boolean isTerrainPopulated();
+    @Shadow protected abstract void populate(IChunkGenerator generator);
+
+    private long forgeImpl$lastUsedTick;
 
     @Redirect(method = "onLoad",
         at = @At(
@@ -76,22 +88,74 @@ public abstract class ChunkMixin_Forge implements ChunkBridge {
     @Inject(method = "onLoad", at = @At("RETURN"))
     private void forgeImpl$updatePersistingChunks(final CallbackInfo ci) {
         if (!this.world.isRemote) {
-            for (final ChunkPos forced : this.world.getPersistentChunks().keySet()) {
-                if (forced.x == this.x && forced.z == this.z) {
-                    this.bridge$setPersistedChunk(true);
-                    return;
-                }
+            final boolean persisted = this.world.getPersistentChunks().containsKey(new ChunkPos(this.x, this.z));
+            this.bridge$setPersistedChunk(persisted);
+            if (persisted && this.world instanceof WorldServer && !((WorldBridge) this.world).bridge$isFake()) {
+                ((WorldServerBridge_Forge) this.world).forgeBridge$getTickingChunks().addForced((Chunk) (Object) this);
             }
-            this.bridge$setPersistedChunk(false);
         }
     }
 
+    @Inject(method = "onLoad", at = @At("RETURN"))
+    private void forgeImpl$markUsedOnLoad(final CallbackInfo ci) {
+        this.forgeImpl$lastUsedTick = this.world.getTotalWorldTime();
+    }
+
     @Inject(method = "onUnload", at = @At("RETURN"))
     private void forgeImpl$UpdateDormantChunks(final CallbackInfo ci) {
         // Moved from ChunkProviderServer
+        if (this.world instanceof WorldServer && !((WorldBridge) this.world).bridge$isFake() && DormantChunkCache.isEnabled()) {
+            ((WorldServerBridge_Forge) this.world).forgeBridge$getDormantChunkCache().put((Chunk) (Object) this);
+            return;
+        }
         net.minecraftforge.common.ForgeChunkManager.putDormantChunk(ChunkPos.asLong(this.x, this.z), (Chunk) (Object) this);
     }
 
+    @Inject(method = "populate(Lnet/minecraft/world/gen/IChunkGenerator;)V", at = @At("HEAD"), cancellable = true)
+    private void forgeImpl$queuePopulation(final IChunkGenerator generator, final CallbackInfo ci) {
+        if (this.isTerrainPopulated() || !(this.world instanceof WorldServer) || ((WorldBridge) this.world).bridge$isFake()) {
+            return;
+        }
+        if (((WorldServerBridge_Forge) this.world).forgeBridge$getPopulationScheduler().defer((Chunk) (Object) this)) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "onUnload", at = @At("RETURN"))
+    private void forgeImpl$dropQueuedPopulation(final CallbackInfo ci) {
+        if (this.world instanceof WorldServer && !((WorldBridge) this.world).bridge$isFake()) {
+            ((WorldServerBridge_Forge) this.world).forgeBridge$getPopulationScheduler().remove((Chunk) (Object) this);
+            ((WorldServerBridge_Forge) this.world).forgeBridge$getTickingChunks().removeForced((Chunk) (Object) this);
+        }
+    }
+
+    @Redirect(method = "populate(Lnet/minecraft/world/gen/IChunkGenerator;)V",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraftforge/fml/common/registry/GameRegistry;generateWorld(IILnet/minecraft/world/World;Lnet/minecraft/world/gen/IChunkGenerator;Lnet/minecraft/world/chunk/IChunkProvider;)V",
+            remap = false))
+    private void forgeImpl$recordModGeneratorCost(final int chunkX, final int chunkZ, final net.minecraft.world.World world,
+        final IChunkGenerator generator, final IChunkProvider provider) {
+        final long start = System.nanoTime();
+        net.minecraftforge.fml.common.registry.GameRegistry.generateWorld(chunkX, chunkZ, world, generator, provider);
+        ChunkPopulationScheduler.recordPopulatorCost("forge:mod_world_generators", System.nanoTime() - start);
+    }
+
+    @Override
+    public void forgeBridge$populateNow(final IChunkGenerator generator) {
+        this.populate(generator);
+    }
+
+    @Override
+    public long forgeBridge$getLastUsedTick() {
+        return this.forgeImpl$lastUsedTick;
+    }
+
+    @Override
+    public void forgeBridge$setLastUsedTick(final long worldTime) {
+        this.forgeImpl$lastUsedTick = worldTime;
+    }
+
 
     @SideOnly(Side.CLIENT)
     @Inject(method = "markLoaded", at = @At("RETURN"))
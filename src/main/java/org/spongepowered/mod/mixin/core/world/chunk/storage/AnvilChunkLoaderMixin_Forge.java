@@ -0,0 +1,141 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.world.chunk.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.mod.bridge.event.EventBusBridge_Forge;
+import org.spongepowered.mod.world.storage.AsyncChunkSaving;
+import org.spongepowered.mod.world.storage.ChunkSectionSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+@Mixin(value = AnvilChunkLoader.class, priority = 1001)
+public abstract class AnvilChunkLoaderMixin_Forge {
+
+    // Only set on the main thread while a chunk is being saved
+    @Nullable private List<ChunkSectionSnapshot> forgeImpl$sectionSnapshots;
+
+    @Inject(method = "saveChunk", at = @At("HEAD"))
+    private void forgeImpl$startSnapshotting(final World world, final Chunk chunk, final CallbackInfo ci) {
+        if (world instanceof WorldServer && !((WorldBridge) world).bridge$isFake() && AsyncChunkSaving.isEnabled()) {
+            this.forgeImpl$sectionSnapshots = new ArrayList<>();
+        }
+    }
+
+    @Redirect(method = "writeChunkToNBT",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/world/chunk/BlockStateContainer;getDataForNBT([BLnet/minecraft/world/chunk/NibbleArray;)Lnet/minecraft/world/chunk/NibbleArray;"))
+    @Nullable
+    private NibbleArray forgeImpl$snapshotSection(final BlockStateContainer container, final byte[] blockIds, final NibbleArray data) {
+        if (this.forgeImpl$sectionSnapshots == null) {
+            return container.getDataForNBT(blockIds, data);
+        }
+        this.forgeImpl$sectionSnapshots.add(ChunkSectionSnapshot.of(container, blockIds, data));
+        // The snapshot puts the "Add" array into the section itself once it knows whether it is needed
+        return null;
+    }
+
+    @Redirect(method = "writeChunkToNBT",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraft/nbt/NBTTagCompound;setByteArray(Ljava/lang/String;[B)V",
+            ordinal = 0))
+    private void forgeImpl$bindSnapshotSection(final NBTTagCompound section, final String key, final byte[] value) {
+        section.setByteArray(key, value);
+        if (this.forgeImpl$sectionSnapshots != null && !this.forgeImpl$sectionSnapshots.isEmpty()) {
+            // The first array of each section is "Blocks", the one just given to the latest snapshot
+            final ChunkSectionSnapshot snapshot = this.forgeImpl$sectionSnapshots.get(this.forgeImpl$sectionSnapshots.size() - 1);
+            if (snapshot.getBlockIds() == value) {
+                snapshot.setSection(section);
+            }
+        }
+    }
+
+    @Inject(method = "saveChunk",
+        at = @At(
+            value = "INVOKE",
+            target = "Lnet/minecraftforge/fml/common/eventhandler/EventBus;post(Lnet/minecraftforge/fml/common/eventhandler/Event;)Z",
+            remap = false))
+    private void forgeImpl$encodeBeforeSaveEvent(final World world, final Chunk chunk, final CallbackInfo ci) {
+        // Mods listening may read the block data, which has to be there when the event is posted
+        if (this.forgeImpl$sectionSnapshots != null
+                && ((EventBusBridge_Forge) MinecraftForge.EVENT_BUS).forgeBridge$hasListeners(ChunkDataEvent.Save.class)) {
+            AsyncChunkSaving.encodeNow(this.forgeImpl$sectionSnapshots);
+            this.forgeImpl$sectionSnapshots = null;
+        }
+    }
+
+    @Inject(method = "addChunkToPending", at = @At("HEAD"))
+    private void forgeImpl$submitSnapshots(final ChunkPos pos, final NBTTagCompound compound, final CallbackInfo ci) {
+        if (this.forgeImpl$sectionSnapshots != null) {
+            AsyncChunkSaving.submit(compound, this.forgeImpl$sectionSnapshots);
+            this.forgeImpl$sectionSnapshots = null;
+        }
+    }
+
+    @Inject(method = "saveChunk", at = @At("RETURN"))
+    private void forgeImpl$stopSnapshotting(final World world, final Chunk chunk, final CallbackInfo ci) {
+        if (this.forgeImpl$sectionSnapshots != null) {
+            // The chunk was not queued, don't leave its arrays unfilled
+            AsyncChunkSaving.encodeNow(this.forgeImpl$sectionSnapshots);
+            this.forgeImpl$sectionSnapshots = null;
+        }
+    }
+
+    @Inject(method = "writeChunkData", at = @At("HEAD"))
+    private void forgeImpl$awaitEncodingBeforeWrite(final ChunkPos pos, final NBTTagCompound compound, final CallbackInfo ci) {
+        AsyncChunkSaving.awaitEncoded(compound);
+    }
+
+    @Redirect(method = "loadChunk__Async",
+        at = @At(value = "INVOKE", target = "Ljava/util/Map;get(Ljava/lang/Object;)Ljava/lang/Object;"),
+        remap = false)
+    @Nullable
+    private Object forgeImpl$awaitEncodingBeforeLoad(final Map<ChunkPos, NBTTagCompound> chunksToSave, final Object pos) {
+        final NBTTagCompound compound = chunksToSave.get(pos);
+        AsyncChunkSaving.awaitEncoded(compound);
+        return compound;
+    }
+}
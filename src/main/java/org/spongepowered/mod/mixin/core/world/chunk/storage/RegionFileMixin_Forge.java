@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.world.storage.AsyncChunkSaving;
+import org.spongepowered.mod.world.storage.MappedRegionCache;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(RegionFile.class)
+public abstract class RegionFileMixin_Forge {
+
+    @Shadow @Final private File fileName;
+    @Shadow private List<Boolean> sectorFree;
+
+    @Nullable private MappedRegionCache.Mapping forgeImpl$mapping;
+
+    @Shadow protected abstract boolean outOfBounds(int x, int z);
+    @Shadow protected abstract int getOffset(int x, int z);
+
+    @Inject(method = "getChunkDataInputStream", at = @At("HEAD"), cancellable = true)
+    private void forgeImpl$readMappedChunk(final int x, final int z, final CallbackInfoReturnable<DataInputStream> cir) {
+        if (!MappedRegionCache.isEnabled() || this.outOfBounds(x, z)) {
+            return;
+        }
+        final int offset = this.getOffset(x, z);
+        final int sectorNumber = offset >> 8;
+        final int sectors = offset & 255;
+        if (offset == 0 || sectorNumber + sectors > this.sectorFree.size()) {
+            return;
+        }
+        final MappedRegionCache.Mapping mapping = this.forgeImpl$acquireMapping((long) (sectorNumber + sectors) * 4096);
+        if (mapping == null) {
+            return;
+        }
+        try {
+            cir.setReturnValue(MappedRegionCache.read(mapping, sectorNumber, sectors));
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not read chunk {}, {} from mapped region file {}", x, z, this.fileName, e);
+            cir.setReturnValue(null);
+        } finally {
+            mapping.release();
+        }
+    }
+
+    @Nullable
+    private MappedRegionCache.Mapping forgeImpl$acquireMapping(final long length) {
+        final MappedRegionCache.Mapping current = this.forgeImpl$mapping;
+        if (current != null && current.acquire()) {
+            if (current.getMappedLength() >= length) {
+                return current;
+            }
+            // The file grew since it was mapped
+            current.release();
+            MappedRegionCache.unmap(current);
+        }
+        this.forgeImpl$mapping = null;
+        try {
+            final MappedRegionCache.Mapping mapping = MappedRegionCache.map(this.fileName);
+            this.forgeImpl$mapping = mapping;
+            return mapping;
+        } catch (IOException | IllegalArgumentException e) {
+            // Read by vanilla instead, files over 2GB can't be mapped at once
+            return null;
+        }
+    }
+
+    @Inject(method = "write(II[BI)V", at = @At("HEAD"))
+    private void forgeImpl$recordWrite(final int x, final int z, final byte[] data, final int length, final CallbackInfo ci) {
+        AsyncChunkSaving.recordWrite(length);
+    }
+
+    @Inject(method = "close", at = @At("HEAD"))
+    private void forgeImpl$unmapOnClose(final CallbackInfo ci) {
+        final MappedRegionCache.Mapping mapping = this.forgeImpl$mapping;
+        if (mapping != null) {
+            this.forgeImpl$mapping = null;
+            MappedRegionCache.unmap(mapping);
+        }
+    }
+
+}
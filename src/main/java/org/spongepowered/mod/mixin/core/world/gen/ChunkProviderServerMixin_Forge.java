@@ -25,11 +25,13 @@
 package org.spongepowered.mod.mixin.core.world.gen;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraft.world.gen.IChunkGenerator;
+import net.minecraftforge.common.ForgeChunkManager;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -43,6 +45,10 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
 import org.spongepowered.common.mixin.core.world.gen.ChunkProviderServerMixin;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
+import org.spongepowered.mod.world.DormantChunkCache;
+
+import javax.annotation.Nullable;
 
 @Mixin(value = ChunkProviderServer.class, priority = 1001)
 public abstract class ChunkProviderServerMixin_Forge implements ChunkProviderServerBridge {
@@ -62,6 +68,13 @@ public abstract class ChunkProviderServerMixin_Forge implements ChunkProviderSer
             net.minecraftforge.common.DimensionManager.unloadWorld(this.world.provider.getDimension());
         }
     }
+    @Inject(method = "saveChunks", at = @At("HEAD"), cancellable = true)
+    private void forgeImpl$leaveChunksToPacedAutoSave(final boolean all, final CallbackInfoReturnable<Boolean> cir) {
+        if (!((WorldBridge) this.world).bridge$isFake() && ((WorldServerBridge_Forge) this.world).forgeBridge$getPacedAutoSave().isSkippingChunks()) {
+            cir.setReturnValue(true);
+        }
+    }
+
     @Redirect(method = "provideChunk",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/IChunkGenerator;generateChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
     private Chunk impl$generateChunkWithSponge(final IChunkGenerator generator, final int x, final int z) {
@@ -82,6 +95,24 @@ public abstract class ChunkProviderServerMixin_Forge implements ChunkProviderSer
         chunk.populate(chunkProvider, ((WorldServerBridge) this.world).bridge$getSpongeGenerator());
     }
 
+    @Redirect(method = "loadChunk(IILjava/lang/Runnable;)Lnet/minecraft/world/chunk/Chunk;",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraftforge/common/ForgeChunkManager;fetchDormantChunk(JLnet/minecraft/world/World;)Lnet/minecraft/world/chunk/Chunk;"),
+        remap = false)
+    @Nullable
+    private Chunk forgeImpl$fetchFromDormantChunkCache(final long key, final World world) {
+        if (((WorldBridge) this.world).bridge$isFake()) {
+            return ForgeChunkManager.fetchDormantChunk(key, world);
+        }
+        final DormantChunkCache cache = ((WorldServerBridge_Forge) this.world).forgeBridge$getDormantChunkCache();
+        if (!DormantChunkCache.isEnabled()) {
+            // Release anything cached before the cache was disabled
+            cache.clear();
+            return ForgeChunkManager.fetchDormantChunk(key, world);
+        }
+        return cache.fetch(key);
+    }
+
     /**
      * @author Aaron1011 - January 28, 2017
      * @reason In SpongeVanilla, it's safe to run this method instead of loadChunk,
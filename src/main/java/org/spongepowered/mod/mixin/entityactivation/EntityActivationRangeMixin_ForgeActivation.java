@@ -0,0 +1,52 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.entityactivation;
+
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+
+@NonnullByDefault
+@Mixin(value = EntityActivationRange.class, remap = false)
+public abstract class EntityActivationRangeMixin_ForgeActivation {
+
+    @Inject(method = "activateEntities", at = @At("HEAD"), cancellable = true)
+    private static void forgeActivationImpl$activateFromGrid(final World world, final CallbackInfo ci) {
+        if (world instanceof WorldServer && !((WorldBridge) world).bridge$isFake()
+                && SpongeForgeConfigAdapter.getInstance().getConfig().getEntityActivation().isSpatialGrid()) {
+            ((WorldServerBridge_Forge) world).forgeBridge$getActivationGrid().activateEntities();
+            ci.cancel();
+        }
+    }
+
+}
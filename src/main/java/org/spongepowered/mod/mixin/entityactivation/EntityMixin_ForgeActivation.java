@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.entityactivation;
+
+import net.minecraft.entity.Entity;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.mod.bridge.entity.EntityBridge_ForgeActivation;
+
+@NonnullByDefault
+@Mixin(Entity.class)
+public abstract class EntityMixin_ForgeActivation implements EntityBridge_ForgeActivation {
+
+    private boolean forgeActivationImpl$canUpdate;
+    private long forgeActivationImpl$canUpdateExpiry = Long.MIN_VALUE;
+
+    @Override
+    public boolean forgeBridge$getCachedCanUpdate() {
+        return this.forgeActivationImpl$canUpdate;
+    }
+
+    @Override
+    public long forgeBridge$getCanUpdateExpiry() {
+        return this.forgeActivationImpl$canUpdateExpiry;
+    }
+
+    @Override
+    public void forgeBridge$setCachedCanUpdate(final boolean canUpdate, final long expiry) {
+        this.forgeActivationImpl$canUpdate = canUpdate;
+        this.forgeActivationImpl$canUpdateExpiry = expiry;
+    }
+
+}
@@ -37,7 +37,8 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
-import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.mod.entity.activation.CanUpdateCache;
+import org.spongepowered.mod.entity.activation.InactiveTickStrategies;
 
 @NonnullByDefault
 @Mixin(value = net.minecraft.world.World.class, priority = 999)
@@ -56,16 +57,20 @@ public abstract class WorldMixin_ForgeActivation {
         //boolean isForced = getPersistentChunks().containsKey(new net.minecraft.util.math.ChunkPos(i >> 4, j >> 4));
         //int k = isForced ? 0 : 32;
         //boolean canUpdate = !forceUpdate || this.isAreaLoaded(i - k, 0, j - k, i + k, 0, j + k, true);
+        final InactiveTickStrategies.EntityType type = InactiveTickStrategies.getType(ticking.getClass());
         if (EntityActivationRange.checkIfActive(ticking)) {
+            type.countActiveTick();
             return;
         }
         // Allow forge mods to force an update
-        if (net.minecraftforge.event.ForgeEventFactory.canEntityUpdate(ticking)) {
+        if (CanUpdateCache.canUpdate(ticking)) {
+            type.countActiveTick();
             return;
         }
 
-        ticking.ticksExisted++;
-        ((ActivationCapability) ticking).activation$inactiveTick();
+        if (type.tickInactive(ticking)) {
+            return;
+        }
         ci.cancel();
         // Sponge end
     }
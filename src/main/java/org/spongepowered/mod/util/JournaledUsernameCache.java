@@ -0,0 +1,304 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+/**
+ * Backs the username cache with an append only journal of changes next to
+ * the {@code usernamecache.json} written by Forge. A save appends the changes
+ * made since the last one, and once the journal grew large enough it is
+ * compacted into a new {@code usernamecache.json} in the background. Loading
+ * streams the JSON file and replays the journals on top of it.
+ *
+ * <p>The journal being compacted is renamed first, so a crash at any point
+ * leaves either the old or the new JSON file with every journal still needed
+ * to rebuild the cache.</p>
+ */
+public final class JournaledUsernameCache {
+
+    private static final String CACHE_FILE = "usernamecache.json";
+    private static final String JOURNAL_FILE = "usernamecache.journal";
+    private static final String COMPACTING_FILE = "usernamecache.journal.compacting";
+
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Username Cache Compactor")
+            .setDaemon(true)
+            .build());
+
+    @Nullable private static File serverDir;
+    private static boolean active;
+    private static UUIDNameMap names = new UUIDNameMap(16);
+    private static final List<String> pending = new ArrayList<>();
+    private static int journalEntries;
+    @Nullable private static Future<?> compaction;
+
+    private JournaledUsernameCache() {
+    }
+
+    public static synchronized void setServerDir(final File dir) {
+        serverDir = dir;
+    }
+
+    /**
+     * Gets whether the journaled cache was enabled when the cache was
+     * loaded, it replaces the JSON cache until the server restarts.
+     *
+     * @return True if the journaled cache is used
+     */
+    public static synchronized boolean isActive() {
+        return active;
+    }
+
+    public static synchronized void load() {
+        if (serverDir == null) {
+            return;
+        }
+        active = SpongeForgeConfigAdapter.getInstance().getConfig().getUsernameCache().isJournaled();
+        final File journal = new File(serverDir, JOURNAL_FILE);
+        final File compacting = new File(serverDir, COMPACTING_FILE);
+        if (!active && !journal.exists() && !compacting.exists()) {
+            return;
+        }
+        names = new UUIDNameMap(16);
+        pending.clear();
+        readCache(new File(serverDir, CACHE_FILE));
+        journalEntries = replay(compacting) + replay(journal);
+        if (!active) {
+            // Journaling was disabled, fold the journals back in before the JSON cache loads the file
+            try {
+                writeCache(names);
+                Files.deleteIfExists(compacting.toPath());
+                Files.deleteIfExists(journal.toPath());
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Could not fold the username cache journal into {}", CACHE_FILE, e);
+            }
+            names = new UUIDNameMap(16);
+            journalEntries = 0;
+        }
+    }
+
+    private static void readCache(final File file) {
+        if (!file.exists()) {
+            return;
+        }
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String key = reader.nextName();
+                if (reader.peek() != JsonToken.STRING) {
+                    reader.skipValue();
+                    continue;
+                }
+                final String name = reader.nextString();
+                try {
+                    final UUID uuid = UUID.fromString(key);
+                    names.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), name);
+                } catch (IllegalArgumentException ignored) {
+                    // Skip invalid entries, like Forge does
+                }
+            }
+            reader.endObject();
+        } catch (IOException | IllegalStateException e) {
+            SpongeImpl.getLogger().error("Could not read the username cache {}", file, e);
+        }
+    }
+
+    private static int replay(final File file) {
+        if (!file.exists()) {
+            return 0;
+        }
+        int entries = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    if (line.startsWith("+") && line.indexOf(' ') > 0) {
+                        final int split = line.indexOf(' ');
+                        final UUID uuid = UUID.fromString(line.substring(1, split));
+                        names.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), line.substring(split + 1));
+                    } else if (line.startsWith("-")) {
+                        final UUID uuid = UUID.fromString(line.substring(1));
+                        names.remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+                    }
+                    entries++;
+                } catch (IllegalArgumentException ignored) {
+                    // A line cut short by a crash while appending
+                }
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not replay the username cache journal {}", file, e);
+        }
+        return entries;
+    }
+
+    public static synchronized void setUsername(final UUID uuid, final String username) {
+        checkNotNull(uuid);
+        checkNotNull(username);
+        final String previous = names.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), username);
+        if (!username.equals(previous)) {
+            pending.add("+" + uuid + " " + username);
+        }
+    }
+
+    public static synchronized boolean removeUsername(final UUID uuid) {
+        checkNotNull(uuid);
+        if (names.remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) != null) {
+            pending.add("-" + uuid);
+            return true;
+        }
+        return false;
+    }
+
+    @Nullable
+    public static synchronized String getLastKnownUsername(final UUID uuid) {
+        checkNotNull(uuid);
+        return names.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public static synchronized boolean containsUUID(final UUID uuid) {
+        checkNotNull(uuid);
+        return names.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) != null;
+    }
+
+    public static synchronized Map<UUID, String> getMap() {
+        final ImmutableMap.Builder<UUID, String> builder = ImmutableMap.builder();
+        names.forEach((most, least, name) -> builder.put(new UUID(most, least), name));
+        return builder.build();
+    }
+
+    /**
+     * Appends the changes made since the last save to the journal, starting a
+     * compaction once the journal holds enough entries.
+     */
+    public static synchronized void save() {
+        if (serverDir == null || pending.isEmpty()) {
+            return;
+        }
+        final File journal = new File(serverDir, JOURNAL_FILE);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                Files.newOutputStream(journal.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND), StandardCharsets.UTF_8))) {
+            for (final String line : pending) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not append to the username cache journal {}", journal, e);
+            return;
+        }
+        journalEntries += pending.size();
+        pending.clear();
+
+        final int threshold = Math.max(SpongeForgeConfigAdapter.getInstance().getConfig().getUsernameCache().getCompactAfterChanges(),
+                names.size() / 4);
+        if (journalEntries >= threshold && (compaction == null || compaction.isDone())) {
+            startCompaction(journal);
+        }
+    }
+
+    private static void startCompaction(final File journal) {
+        final File compacting = new File(serverDir, COMPACTING_FILE);
+        try {
+            if (compacting.exists()) {
+                // A previous compaction failed, its journal still has to be replayed before this one
+                Files.write(compacting.toPath(), Files.readAllBytes(journal.toPath()), StandardOpenOption.APPEND);
+                Files.delete(journal.toPath());
+            } else {
+                Files.move(journal.toPath(), compacting.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not rotate the username cache journal {}", journal, e);
+            return;
+        }
+        journalEntries = 0;
+        final UUIDNameMap snapshot = names.copy();
+        compaction = compactor.submit(() -> {
+            try {
+                writeCache(snapshot);
+                Files.deleteIfExists(compacting.toPath());
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Could not compact the username cache journal into {}", CACHE_FILE, e);
+            }
+        });
+    }
+
+    private static void writeCache(final UUIDNameMap map) throws IOException {
+        final File file = new File(serverDir, CACHE_FILE);
+        final File temp = new File(serverDir, CACHE_FILE + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            final JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            writer.setIndent("  ");
+            writer.beginObject();
+            final IOException[] error = new IOException[1];
+            map.forEach((most, least, name) -> {
+                if (error[0] == null) {
+                    try {
+                        writer.name(new UUID(most, least).toString()).value(name);
+                    } catch (IOException e) {
+                        error[0] = e;
+                    }
+                }
+            });
+            if (error[0] != null) {
+                throw error[0];
+            }
+            writer.endObject();
+            writer.flush();
+            out.getFD().sync();
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.util;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import javax.annotation.Nullable;
+
+/**
+ * An open addressing map from player unique ids to names. Both halves of
+ * each unique id are stored inline in a single {@code long[]}, so hundreds
+ * of thousands of entries don't cost a {@link java.util.UUID} and a map
+ * entry each. Not thread safe.
+ */
+public final class UUIDNameMap {
+
+    private static final float LOAD_FACTOR = 0.75F;
+
+    // Two longs per slot, a slot is free while its name is null
+    private long[] keys;
+    private String[] names;
+    private int mask;
+    private int size;
+    private int maxFill;
+
+    public UUIDNameMap(final int expected) {
+        this.allocate(HashCommon.arraySize(Math.max(16, expected), LOAD_FACTOR));
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity * 2];
+        this.names = new String[capacity];
+        this.mask = capacity - 1;
+        this.maxFill = HashCommon.maxFill(capacity, LOAD_FACTOR);
+    }
+
+    private int slot(final long most, final long least) {
+        int slot = (int) HashCommon.mix(most ^ Long.rotateLeft(least, 32)) & this.mask;
+        while (this.names[slot] != null && (this.keys[slot * 2] != most || this.keys[slot * 2 + 1] != least)) {
+            slot = (slot + 1) & this.mask;
+        }
+        return slot;
+    }
+
+    @Nullable
+    public String get(final long most, final long least) {
+        return this.names[this.slot(most, least)];
+    }
+
+    /**
+     * Associates the given name with the unique id.
+     *
+     * @param most The most significant bits of the unique id
+     * @param least The least significant bits of the unique id
+     * @param name The name
+     * @return The previous name, if any
+     */
+    @Nullable
+    public String put(final long most, final long least, final String name) {
+        final int slot = this.slot(most, least);
+        final String previous = this.names[slot];
+        this.keys[slot * 2] = most;
+        this.keys[slot * 2 + 1] = least;
+        this.names[slot] = name;
+        if (previous == null && ++this.size > this.maxFill) {
+            this.rehash(this.names.length * 2);
+        }
+        return previous;
+    }
+
+    @Nullable
+    public String remove(final long most, final long least) {
+        int slot = this.slot(most, least);
+        final String previous = this.names[slot];
+        if (previous == null) {
+            return null;
+        }
+        this.size--;
+        // Shift the following entries of the probe sequence back into the freed slot
+        while (true) {
+            this.names[slot] = null;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & this.mask;
+                if (this.names[next] == null) {
+                    return previous;
+                }
+                final int home = (int) HashCommon.mix(this.keys[next * 2] ^ Long.rotateLeft(this.keys[next * 2 + 1], 32)) & this.mask;
+                if (slot <= next ? slot >= home || home > next : slot >= home && home > next) {
+                    break;
+                }
+            }
+            this.keys[slot * 2] = this.keys[next * 2];
+            this.keys[slot * 2 + 1] = this.keys[next * 2 + 1];
+            this.names[slot] = this.names[next];
+            slot = next;
+        }
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = this.keys;
+        final String[] oldNames = this.names;
+        this.allocate(capacity);
+        for (int i = 0; i < oldNames.length; i++) {
+            if (oldNames[i] != null) {
+                final int slot = this.slot(oldKeys[i * 2], oldKeys[i * 2 + 1]);
+                this.keys[slot * 2] = oldKeys[i * 2];
+                this.keys[slot * 2 + 1] = oldKeys[i * 2 + 1];
+                this.names[slot] = oldNames[i];
+            }
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Passes every entry to the given consumer, the unique id packed as
+     * its two halves.
+     *
+     * @param consumer The consumer
+     */
+    public void forEach(final EntryConsumer consumer) {
+        for (int i = 0; i < this.names.length; i++) {
+            if (this.names[i] != null) {
+                consumer.accept(this.keys[i * 2], this.keys[i * 2 + 1], this.names[i]);
+            }
+        }
+    }
+
+    public UUIDNameMap copy() {
+        final UUIDNameMap copy = new UUIDNameMap(16);
+        copy.keys = this.keys.clone();
+        copy.names = this.names.clone();
+        copy.mask = this.mask;
+        copy.size = this.size;
+        copy.maxFill = this.maxFill;
+        return copy;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(long most, long least, String name);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+
+import java.util.List;
+
+/**
+ * Activates the entities of a world that are within their activation range
+ * of a player. Instead of testing the entities around each player in turn,
+ * the distance of every chunk around players to the nearest player chunk is
+ * computed once per tick, and each entity is then activated with a single
+ * lookup of its own chunk. Activation ranges span the full height of the
+ * world, so the grid only covers chunk columns.
+ */
+public final class ActivationGrid {
+
+    private static final int CHUNK_SIZE = 16;
+    private static final byte FAR = Byte.MAX_VALUE;
+
+    private final WorldServer world;
+    private final Long2ByteOpenHashMap distances = new Long2ByteOpenHashMap();
+
+    public ActivationGrid(final WorldServer world) {
+        this.world = world;
+        this.distances.defaultReturnValue(FAR);
+    }
+
+    /**
+     * Marks the entities within range of a player as active for the current
+     * tick, replacing {@link EntityActivationRange#activateEntities}.
+     */
+    public void activateEntities() {
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final List<Entity> entities = this.world.loadedEntityList;
+        int maxRange = 0;
+        for (int index = 0; index < entities.size(); index++) {
+            final Entity entity = entities.get(index);
+            final ActivationCapability activation = (ActivationCapability) entity;
+            if (activation.activation$requiresActivationCacheRefresh()) {
+                EntityActivationRange.initializeEntityActivationState(entity);
+                activation.activation$requiresActivationCacheRefresh(false);
+            }
+            if (!activation.activation$getDefaultActivationState()) {
+                maxRange = Math.max(maxRange, activation.activation$getActivationRange());
+            }
+        }
+
+        this.build(this.world.playerEntities, toChunks(maxRange));
+
+        for (int index = 0; index < entities.size(); index++) {
+            final Entity entity = entities.get(index);
+            final ActivationCapability activation = (ActivationCapability) entity;
+            if (entity instanceof EntityPlayer || activation.activation$getDefaultActivationState()) {
+                activation.activation$setActivatedTick(currentTick);
+            } else if (currentTick > activation.activation$getActivatedTick()
+                    && this.getDistance(MathHelper.floor(entity.posX) >> 4, MathHelper.floor(entity.posZ) >> 4)
+                        <= toChunks(activation.activation$getActivationRange())) {
+                activation.activation$setActivatedTick(currentTick);
+            }
+        }
+    }
+
+    private void build(final List<EntityPlayer> players, final int maxRange) {
+        this.distances.clear();
+        final int range = Math.min(maxRange, FAR - 1);
+        for (int index = 0; index < players.size(); index++) {
+            final EntityPlayer player = players.get(index);
+            final int chunkX = MathHelper.floor(player.posX) >> 4;
+            final int chunkZ = MathHelper.floor(player.posZ) >> 4;
+            for (int x = -range; x <= range; x++) {
+                for (int z = -range; z <= range; z++) {
+                    final byte distance = (byte) Math.max(Math.abs(x), Math.abs(z));
+                    final long key = ChunkPos.asLong(chunkX + x, chunkZ + z);
+                    if (distance < this.distances.get(key)) {
+                        this.distances.put(key, distance);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the distance in chunks between a chunk and the nearest chunk
+     * holding a player, as of the last activation.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The distance, or {@link Byte#MAX_VALUE} if out of every range
+     */
+    public int getDistance(final int chunkX, final int chunkZ) {
+        return this.distances.get(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    public int getMarkedChunks() {
+        return this.distances.size();
+    }
+
+    // Every block within the range of a player is in a chunk at most this many chunks away
+    private static int toChunks(final int range) {
+        return (range + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+}
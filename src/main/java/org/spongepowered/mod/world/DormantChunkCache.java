@@ -0,0 +1,190 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+
+import java.util.ArrayList;
+
+import javax.annotation.Nullable;
+
+/**
+ * A replacement for Forge's dormant chunk cache which keeps recently
+ * unloaded chunks of a world in memory so reloading them does not hit the
+ * disk. Instead of a fixed amount of chunks, the cache is bounded by the
+ * estimated amount of memory its chunks retain, evicting the least recently
+ * unloaded chunks first.
+ *
+ * <p>Like Forge, entities and tile entities are snapshotted when the chunk is
+ * unloaded and recreated when it is restored, since the live instances are
+ * removed from the world in the meantime.</p>
+ */
+public final class DormantChunkCache {
+
+    // Rough retained sizes: block states plus block and sky light per section, the
+    // height, biome and precipitation maps per chunk, and the live object plus its NBT snapshot
+    private static final long CHUNK_BYTES = 4 * 1024;
+    private static final long SECTION_BYTES = 12 * 1024;
+    private static final long TILE_ENTITY_BYTES = 1024;
+    private static final long ENTITY_BYTES = 2 * 1024;
+
+    private final WorldServer world;
+    private final Long2ObjectLinkedOpenHashMap<Entry> entries = new Long2ObjectLinkedOpenHashMap<>();
+    private long retainedBytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public DormantChunkCache(final WorldServer world) {
+        this.world = world;
+    }
+
+    public static boolean isEnabled() {
+        return SpongeForgeConfigAdapter.getInstance().getConfig().getDormantChunkCache().isEnabled();
+    }
+
+    public void put(final Chunk chunk) {
+        final NBTTagList entities = new NBTTagList();
+        for (final ClassInheritanceMultiMap<Entity> list : chunk.getEntityLists()) {
+            for (final Entity entity : list) {
+                final NBTTagCompound compound = new NBTTagCompound();
+                if (entity.writeToNBTOptional(compound)) {
+                    entities.appendTag(compound);
+                }
+            }
+        }
+        final NBTTagList tileEntities = new NBTTagList();
+        for (final TileEntity tileEntity : chunk.getTileEntityMap().values()) {
+            tileEntities.appendTag(tileEntity.writeToNBT(new NBTTagCompound()));
+        }
+
+        long bytes = CHUNK_BYTES + entities.tagCount() * ENTITY_BYTES + tileEntities.tagCount() * TILE_ENTITY_BYTES;
+        for (final ExtendedBlockStorage section : chunk.getBlockStorageArray()) {
+            if (section != Chunk.NULL_BLOCK_STORAGE) {
+                bytes += SECTION_BYTES;
+            }
+        }
+
+        final Entry previous = this.entries.putAndMoveToLast(ChunkPos.asLong(chunk.x, chunk.z), new Entry(chunk, entities, tileEntities, bytes));
+        if (previous != null) {
+            this.retainedBytes -= previous.bytes;
+        }
+        this.retainedBytes += bytes;
+        final long maxBytes = SpongeForgeConfigAdapter.getInstance().getConfig().getDormantChunkCache().getMaxMegabytesPerWorld() * 1024L * 1024L;
+        while (this.retainedBytes > maxBytes && !this.entries.isEmpty()) {
+            this.retainedBytes -= this.entries.removeFirst().bytes;
+            this.evictions++;
+        }
+    }
+
+    /**
+     * Takes the chunk at the given position out of the cache, restoring its
+     * entities and tile entities.
+     *
+     * @param key The packed chunk position
+     * @return The chunk, or null if it is not cached
+     */
+    @Nullable
+    public Chunk fetch(final long key) {
+        final Entry entry = this.entries.remove(key);
+        if (entry == null) {
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        this.retainedBytes -= entry.bytes;
+
+        final Chunk chunk = entry.chunk;
+        // Drop the instances that were removed from the world on unload
+        for (final ClassInheritanceMultiMap<Entity> list : chunk.getEntityLists()) {
+            for (final Entity entity : new ArrayList<>(list)) {
+                list.remove(entity);
+            }
+        }
+        chunk.getTileEntityMap().clear();
+        for (int i = 0; i < entry.entities.tagCount(); i++) {
+            AnvilChunkLoader.readChunkEntity(entry.entities.getCompoundTagAt(i), this.world, chunk);
+        }
+        for (int i = 0; i < entry.tileEntities.tagCount(); i++) {
+            final TileEntity tileEntity = TileEntity.create(this.world, entry.tileEntities.getCompoundTagAt(i));
+            if (tileEntity != null) {
+                chunk.addTileEntity(tileEntity);
+            }
+        }
+        return chunk;
+    }
+
+    public void clear() {
+        this.entries.clear();
+        this.retainedBytes = 0;
+    }
+
+    public int getSize() {
+        return this.entries.size();
+    }
+
+    public long getRetainedBytes() {
+        return this.retainedBytes;
+    }
+
+    public long getHits() {
+        return this.hits;
+    }
+
+    public long getMisses() {
+        return this.misses;
+    }
+
+    public long getEvictions() {
+        return this.evictions;
+    }
+
+    private static final class Entry {
+
+        final Chunk chunk;
+        final NBTTagList entities;
+        final NBTTagList tileEntities;
+        final long bytes;
+
+        Entry(final Chunk chunk, final NBTTagList entities, final NBTTagList tileEntities, final long bytes) {
+            this.chunk = chunk;
+            this.entities = entities;
+            this.tileEntities = tileEntities;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.mod.bridge.world.chunk.ChunkBridge_Forge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.ChunkGCCategory;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spreads the chunk garbage collection of a world over several ticks. Every
+ * chunk GC interval the loaded chunks are snapshotted, ordered by how long
+ * they have gone unused by players, and then examined a bounded amount of
+ * chunks or time per tick. Chunks no player is using are queued for unload,
+ * the same way the regular chunk GC does.
+ */
+public final class IncrementalChunkGC {
+
+    private static final Chunk[] NO_CHUNKS = new Chunk[0];
+
+    private final WorldServer world;
+    private int ticksSinceLastPass;
+    private Chunk[] pass = NO_CHUNKS;
+    private int cursor;
+
+    private long totalExamined;
+    private long totalQueued;
+    private long totalNanos;
+    private int lastTickExamined;
+    private int lastTickQueued;
+    private long lastTickNanos;
+
+    public IncrementalChunkGC(final WorldServer world) {
+        this.world = world;
+    }
+
+    public void tick() {
+        final int interval = ((WorldServerBridge) this.world).bridge$getChunkGCTickInterval();
+        final ChunkGCCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getChunkGC();
+        if (!category.isIncremental()) {
+            this.finishPass();
+            if (interval > 0) {
+                ((WorldServerBridge) this.world).bridge$doChunkGC();
+            }
+            return;
+        }
+        this.lastTickExamined = 0;
+        this.lastTickQueued = 0;
+        this.lastTickNanos = 0;
+        if (interval <= 0) {
+            this.finishPass();
+            return;
+        }
+        if (this.cursor >= this.pass.length && ++this.ticksSinceLastPass >= interval) {
+            this.ticksSinceLastPass = 0;
+            this.startPass();
+        }
+        if (this.cursor >= this.pass.length) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.MICROSECONDS.toNanos(category.getMaxMicrosPerTick());
+        final int maxChunks = Math.max(1, category.getMaxChunksPerTick());
+        final ChunkProviderServer provider = this.world.getChunkProvider();
+        final PlayerChunkMap playerChunkMap = this.world.getPlayerChunkMap();
+        final long worldTime = this.world.getTotalWorldTime();
+        long now = start;
+        while (this.cursor < this.pass.length && this.lastTickExamined < maxChunks && (this.lastTickExamined == 0 || now < deadline)) {
+            final Chunk chunk = this.pass[this.cursor];
+            // Don't keep chunks alive that have been examined already
+            this.pass[this.cursor++] = null;
+            this.lastTickExamined++;
+            // The chunk may have been unloaded since the pass started, the other guards mirror the regular chunk GC
+            if (!chunk.unloadQueued && provider.getLoadedChunk(chunk.x, chunk.z) == chunk && !((ChunkBridge) chunk).bridge$isPersistedChunk()
+                    && this.world.provider.canDropChunk(chunk.x, chunk.z)) {
+                if (playerChunkMap.contains(chunk.x, chunk.z)) {
+                    ((ChunkBridge_Forge) chunk).forgeBridge$setLastUsedTick(worldTime);
+                } else {
+                    provider.queueUnload(chunk);
+                    if (chunk.unloadQueued) {
+                        SpongeHooks.logChunkGCQueueUnload(this.world, chunk);
+                        this.lastTickQueued++;
+                    }
+                }
+            }
+            now = System.nanoTime();
+        }
+        if (this.cursor >= this.pass.length) {
+            this.finishPass();
+        }
+        this.lastTickNanos = now - start;
+        this.totalExamined += this.lastTickExamined;
+        this.totalQueued += this.lastTickQueued;
+        this.totalNanos += this.lastTickNanos;
+    }
+
+    private void startPass() {
+        final Chunk[] chunks = this.world.getChunkProvider().getLoadedChunks().toArray(NO_CHUNKS);
+        // Pack the last tick a chunk was used above its index so a plain sort orders by inactivity
+        final long[] order = new long[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            order[i] = ((ChunkBridge_Forge) chunks[i]).forgeBridge$getLastUsedTick() << 24 | i;
+        }
+        Arrays.sort(order);
+        this.pass = new Chunk[chunks.length];
+        for (int i = 0; i < order.length; i++) {
+            this.pass[i] = chunks[(int) (order[i] & 0xFFFFFF)];
+        }
+        this.cursor = 0;
+    }
+
+    private void finishPass() {
+        this.pass = NO_CHUNKS;
+        this.cursor = 0;
+    }
+
+    public int getRemaining() {
+        return this.pass.length - this.cursor;
+    }
+
+    public long getTotalExamined() {
+        return this.totalExamined;
+    }
+
+    public long getTotalQueued() {
+        return this.totalQueued;
+    }
+
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+
+    public int getLastTickExamined() {
+        return this.lastTickExamined;
+    }
+
+    public int getLastTickQueued() {
+        return this.lastTickQueued;
+    }
+
+    public long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.ItemMergingCategory;
+import org.spongepowered.mod.mixin.core.entity.item.EntityItemAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Periodically merges the dropped items of a world lying within a radius of
+ * each other. The items are bucketed by chunk, so each item is only compared
+ * with the items of its own chunk and of the neighboring chunks it is close
+ * enough to. Merging goes through the vanilla item merge, which keeps its
+ * checks on stack sizes, tags, capabilities and pickup delays.
+ *
+ * <p>Items with a custom entity, subclasses of {@link EntityItem} and items
+ * dropped by different creators or notifiers are never merged.</p>
+ */
+public final class ItemMerger {
+
+    private static final int CHUNK_SIZE = 16;
+
+    private final WorldServer world;
+    private final Long2ObjectMap<List<EntityItem>> buckets = new Long2ObjectOpenHashMap<>();
+    private int ticksSinceLastPass;
+
+    private long totalMerged;
+    private int lastPassMerged;
+    private int lastPassItems;
+    private long lastPassNanos;
+
+    public ItemMerger(final WorldServer world) {
+        this.world = world;
+    }
+
+    public void tick() {
+        final ItemMergingCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getItemMerging();
+        if (!category.isEnabled() || ++this.ticksSinceLastPass < category.getInterval()) {
+            return;
+        }
+        this.ticksSinceLastPass = 0;
+        final long start = System.nanoTime();
+        final double radius = Math.max(0, Math.min(CHUNK_SIZE, category.getRadius()));
+        this.lastPassItems = this.collect();
+        int merged = 0;
+        for (final Long2ObjectMap.Entry<List<EntityItem>> entry : this.buckets.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            merged += this.merge(entry.getValue(), (int) key, (int) (key >>> 32), radius);
+        }
+        this.buckets.clear();
+        this.lastPassMerged = merged;
+        this.lastPassNanos = System.nanoTime() - start;
+        this.totalMerged += merged;
+    }
+
+    private int collect() {
+        int items = 0;
+        for (int index = 0; index < this.world.loadedEntityList.size(); index++) {
+            final Entity entity = this.world.loadedEntityList.get(index);
+            if (entity.getClass() != EntityItem.class || !canMerge((EntityItem) entity)) {
+                continue;
+            }
+            final long key = ChunkPos.asLong(MathHelper.floor(entity.posX) >> 4, MathHelper.floor(entity.posZ) >> 4);
+            List<EntityItem> bucket = this.buckets.get(key);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                this.buckets.put(key, bucket);
+            }
+            bucket.add((EntityItem) entity);
+            items++;
+        }
+        return items;
+    }
+
+    private static boolean canMerge(final EntityItem item) {
+        final ItemStack stack = item.getItem();
+        return !item.isDead && !stack.isEmpty() && stack.getCount() < stack.getMaxStackSize() && !stack.getItem().hasCustomEntity(stack);
+    }
+
+    private int merge(final List<EntityItem> bucket, final int chunkX, final int chunkZ, final double radius) {
+        final double radiusSquared = radius * radius;
+        int merged = 0;
+        for (final EntityItem item : bucket) {
+            if (item.isDead) {
+                continue;
+            }
+            // Only look into the neighboring chunks the item is close enough to
+            final double x = item.posX - (chunkX << 4);
+            final double z = item.posZ - (chunkZ << 4);
+            final int minX = x < radius ? -1 : 0;
+            final int maxX = x > CHUNK_SIZE - radius ? 1 : 0;
+            final int minZ = z < radius ? -1 : 0;
+            final int maxZ = z > CHUNK_SIZE - radius ? 1 : 0;
+            search:
+            for (int offsetX = minX; offsetX <= maxX; offsetX++) {
+                for (int offsetZ = minZ; offsetZ <= maxZ; offsetZ++) {
+                    final List<EntityItem> others = offsetX == 0 && offsetZ == 0
+                            ? bucket : this.buckets.get(ChunkPos.asLong(chunkX + offsetX, chunkZ + offsetZ));
+                    if (others == null) {
+                        continue;
+                    }
+                    for (final EntityItem other : others) {
+                        if (other == item || other.isDead || other.getItem().getItem() != item.getItem().getItem()
+                                || other.getDistanceSq(item) > radiusSquared || !haveSameOwners(item, other)) {
+                            continue;
+                        }
+                        if (((EntityItemAccessor) item).forgeAccessor$combineItems(other)) {
+                            merged++;
+                            if (item.isDead) {
+                                break search;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static boolean haveSameOwners(final EntityItem item, final EntityItem other) {
+        final org.spongepowered.api.entity.Entity spongeItem = (org.spongepowered.api.entity.Entity) item;
+        final org.spongepowered.api.entity.Entity spongeOther = (org.spongepowered.api.entity.Entity) other;
+        return Objects.equals(item.getThrower(), other.getThrower()) && Objects.equals(item.getOwner(), other.getOwner())
+                && spongeItem.getCreator().equals(spongeOther.getCreator()) && spongeItem.getNotifier().equals(spongeOther.getNotifier());
+    }
+
+    public long getTotalMerged() {
+        return this.totalMerged;
+    }
+
+    public int getLastPassMerged() {
+        return this.lastPassMerged;
+    }
+
+    public int getLastPassItems() {
+        return this.lastPassItems;
+    }
+
+    public long getLastPassNanos() {
+        return this.lastPassNanos;
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+
+import java.util.Arrays;
+
+/**
+ * Collects the light checks of a world during a tick and performs them at
+ * the end of the world tick. A position is only checked once no matter how
+ * often it was queued, and checks are grouped by chunk. At most a configured
+ * amount of checks is performed per tick, the rest is carried over in the
+ * order it was queued.
+ */
+public final class LightUpdateQueue {
+
+    // The batch index shares a sort key with the packed chunk position
+    private static final int MAX_BATCH_SIZE = 1 << 20;
+    private static final int CHUNK_BITS = 22;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+    private final WorldServer world;
+    private final LongLinkedOpenHashSet queue = new LongLinkedOpenHashSet();
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private boolean processing;
+
+    private long totalQueued;
+    private long totalDeduplicated;
+    private long totalProcessed;
+    private int lastTickProcessed;
+    private long lastTickNanos;
+
+    public LightUpdateQueue(final WorldServer world) {
+        this.world = world;
+    }
+
+    /**
+     * Queues a light check for the given position.
+     *
+     * @param pos The position
+     * @return True if the check was queued and must not happen now
+     */
+    public boolean queue(final BlockPos pos) {
+        if (this.processing || !SpongeForgeConfigAdapter.getInstance().getConfig().getLightUpdates().isBatched()) {
+            return false;
+        }
+        this.totalQueued++;
+        if (!this.queue.add(pos.toLong())) {
+            this.totalDeduplicated++;
+        }
+        return true;
+    }
+
+    public void tick() {
+        this.lastTickProcessed = 0;
+        this.lastTickNanos = 0;
+        if (this.queue.isEmpty()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final int max = Math.max(1, Math.min(MAX_BATCH_SIZE,
+                SpongeForgeConfigAdapter.getInstance().getConfig().getLightUpdates().getMaxUpdatesPerTick()));
+        final long[] batch = new long[Math.min(max, this.queue.size())];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = this.queue.removeFirstLong();
+        }
+        // Pack the chunk position above the batch index so a plain sort groups the batch by chunk
+        final long[] order = new long[batch.length];
+        for (int i = 0; i < batch.length; i++) {
+            order[i] = ((unpackX(batch[i]) >> 4) & CHUNK_MASK) << (64 - CHUNK_BITS) | ((unpackZ(batch[i]) >> 4) & CHUNK_MASK) << (64 - 2 * CHUNK_BITS) | i;
+        }
+        Arrays.sort(order);
+
+        this.processing = true;
+        try {
+            for (final long key : order) {
+                final long packed = batch[(int) (key & (MAX_BATCH_SIZE - 1))];
+                this.pos.setPos(unpackX(packed), unpackY(packed), unpackZ(packed));
+                this.world.checkLight(this.pos);
+            }
+        } finally {
+            this.processing = false;
+        }
+        this.lastTickProcessed = batch.length;
+        this.totalProcessed += batch.length;
+        this.lastTickNanos = System.nanoTime() - start;
+    }
+
+    // Mirrors BlockPos.fromLong without allocating a position
+    private static int unpackX(final long packed) {
+        return (int) (packed >> 38);
+    }
+
+    private static int unpackY(final long packed) {
+        return (int) (packed << 26 >> 52);
+    }
+
+    private static int unpackZ(final long packed) {
+        return (int) (packed << 38 >> 38);
+    }
+
+    public int getPending() {
+        return this.queue.size();
+    }
+
+    public long getTotalQueued() {
+        return this.totalQueued;
+    }
+
+    public long getTotalDeduplicated() {
+        return this.totalDeduplicated;
+    }
+
+    public long getTotalProcessed() {
+        return this.totalProcessed;
+    }
+
+    public int getLastTickProcessed() {
+        return this.lastTickProcessed;
+    }
+
+    public long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+}
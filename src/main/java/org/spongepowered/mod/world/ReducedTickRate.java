@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.storage.WorldInfo;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.ReducedTickRateCategory;
+
+/**
+ * Decides whether a world without players is ticked on a server tick. Such a
+ * world is only ticked once every few server ticks, offset by its dimension
+ * id so that the slowed down worlds do not all tick at once. When it is ticked
+ * again, its time and the tile entities implementing {@link CatchUpTickable}
+ * catch up on the skipped ticks.
+ */
+public final class ReducedTickRate {
+
+    private static final int TICKS_PER_WINDOW = 100;
+
+    private final WorldServer world;
+    private int lastTick = -1;
+    private int lastDivisor = 1;
+    private int skippedTicks;
+    private boolean reduced;
+
+    private long windowStart = System.nanoTime();
+    private int windowTicks;
+    private double effectiveTps = 20;
+
+    public ReducedTickRate(final WorldServer world) {
+        this.world = world;
+    }
+
+    /**
+     * Updates the tick rate of the world.
+     *
+     * @param tick The current server tick
+     * @return True if the world should be ticked
+     */
+    public boolean tick(final int tick) {
+        if (tick % TICKS_PER_WINDOW == 0) {
+            final long now = System.nanoTime();
+            this.effectiveTps = this.windowTicks * 1e9 / Math.max(1, now - this.windowStart);
+            this.windowStart = now;
+            this.windowTicks = 0;
+        }
+        final ReducedTickRateCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getReducedTickRate();
+        final int dimensionId = ((WorldServerBridge) this.world).bridge$getDimensionId();
+        final int divisor = category.isEnabled() && this.world.playerEntities.isEmpty() ? category.getDivisor(dimensionId) : 1;
+        this.reduced = divisor > 1;
+        if (this.reduced && Math.floorMod(tick + dimensionId, divisor) != 0) {
+            return false;
+        }
+        // Only ticks skipped by a reduced rate are made up for, not the ones of a hibernation
+        this.skippedTicks = this.lastTick < 0 ? 0 : Math.min(Math.max(divisor, this.lastDivisor), tick - this.lastTick) - 1;
+        this.lastTick = tick;
+        this.lastDivisor = divisor;
+        this.windowTicks++;
+        return true;
+    }
+
+    /**
+     * Lets the world catch up on the ticks skipped before its current tick,
+     * called after the world is ticked.
+     */
+    public void catchUp() {
+        final int skipped = this.skippedTicks;
+        if (skipped <= 0) {
+            return;
+        }
+        this.skippedTicks = 0;
+        final WorldInfo info = this.world.getWorldInfo();
+        info.setWorldTotalTime(info.getWorldTotalTime() + skipped);
+        if (this.world.getGameRules().getBoolean("doDaylightCycle")) {
+            info.setWorldTime(info.getWorldTime() + skipped);
+        }
+        // Indexed, a tile entity catching up may add or remove others
+        for (int index = 0; index < this.world.tickableTileEntities.size(); index++) {
+            final TileEntity tileEntity = this.world.tickableTileEntities.get(index);
+            if (tileEntity instanceof CatchUpTickable && !tileEntity.isInvalid()) {
+                ((CatchUpTickable) tileEntity).catchUpTicks(skipped);
+            }
+        }
+    }
+
+    public boolean isReduced() {
+        return this.reduced;
+    }
+
+    public double getEffectiveTps() {
+        return this.effectiveTps;
+    }
+
+}
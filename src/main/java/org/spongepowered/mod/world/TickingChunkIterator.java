@@ -0,0 +1,195 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import com.google.common.base.Predicate;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.mod.mixin.core.server.management.PlayerChunkMapAccessor;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Iterates the chunks of a world that are ticked, being the force loaded
+ * chunks followed by the chunks watched by players, as Forge's persistent
+ * chunk iterable does. Instead of merging both into a new set every time, the
+ * loaded force loaded chunks are maintained as they are forced, loaded and
+ * unloaded, and chunks watched by players are skipped when they are flagged
+ * as persisted. The world keeps a single instance which is reused for every
+ * iteration that does not overlap with another one.
+ */
+public final class TickingChunkIterator implements Iterator<Chunk> {
+
+    private static final Chunk[] NO_CHUNKS = new Chunk[0];
+    private static final double PLAYER_RANGE = 128.0D;
+    private static final Predicate<EntityPlayerMP> NOT_SPECTATOR = player -> player != null && !player.isSpectator();
+
+    private final WorldServer world;
+    private final ReferenceOpenHashSet<Chunk> forced = new ReferenceOpenHashSet<>();
+    // Forced chunks that were not loaded yet, loaded on the next iteration like Forge does
+    private final LongSet pendingForced = new LongOpenHashSet();
+    private Chunk[] forcedSnapshot = NO_CHUNKS;
+    private boolean forcedDirty;
+
+    private boolean iterating;
+    private int startedTick = -1;
+
+    private Chunk[] forcedChunks = NO_CHUNKS;
+    private int forcedIndex;
+    private List<PlayerChunkMapEntry> entries;
+    private int entryIndex;
+    @Nullable private Chunk next;
+
+    public TickingChunkIterator(final WorldServer world) {
+        this.world = world;
+    }
+
+    private TickingChunkIterator(final TickingChunkIterator owner) {
+        this.world = owner.world;
+    }
+
+    public void addForced(final Chunk chunk) {
+        this.pendingForced.remove(ChunkPos.asLong(chunk.x, chunk.z));
+        if (this.forced.add(chunk)) {
+            this.forcedDirty = true;
+        }
+    }
+
+    public void addPendingForced(final int x, final int z) {
+        this.pendingForced.add(ChunkPos.asLong(x, z));
+    }
+
+    public void removeForced(final Chunk chunk) {
+        if (this.forced.remove(chunk)) {
+            this.forcedDirty = true;
+        }
+    }
+
+    public void removePendingForced(final int x, final int z) {
+        this.pendingForced.remove(ChunkPos.asLong(x, z));
+    }
+
+    public int getForcedCount() {
+        return this.forced.size();
+    }
+
+    /**
+     * Starts a new iteration over the ticking chunks, reusing this instance
+     * unless it is still being iterated during the current tick.
+     *
+     * @return The iterator
+     */
+    public Iterator<Chunk> start() {
+        final int tick = this.world.getMinecraftServer().getTickCounter();
+        final TickingChunkIterator iterator = this.iterating && this.startedTick == tick ? new TickingChunkIterator(this) : this;
+        if (!this.pendingForced.isEmpty()) {
+            final long[] pending = this.pendingForced.toLongArray();
+            this.pendingForced.clear();
+            for (final long key : pending) {
+                // Loading the chunk adds it to the forced chunks once its persisted flag is set
+                this.world.getChunkProvider().provideChunk((int) key, (int) (key >> 32));
+            }
+        }
+        if (this.forcedDirty) {
+            this.forcedSnapshot = this.forced.toArray(NO_CHUNKS);
+            this.forcedDirty = false;
+        }
+        iterator.reset(this.forcedSnapshot, tick);
+        return iterator;
+    }
+
+    private void reset(final Chunk[] forcedChunks, final int tick) {
+        this.forcedChunks = forcedChunks;
+        this.forcedIndex = 0;
+        this.entries = ((PlayerChunkMapAccessor) this.world.getPlayerChunkMap()).forgeAccessor$getEntries();
+        this.entryIndex = 0;
+        this.next = null;
+        this.iterating = true;
+        this.startedTick = tick;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.next == null) {
+            this.next = this.computeNext();
+            if (this.next == null) {
+                this.iterating = false;
+                // Don't hold on to chunks or entries in between iterations
+                this.forcedChunks = NO_CHUNKS;
+                this.entries = null;
+            }
+        }
+        return this.next != null;
+    }
+
+    @Override
+    public Chunk next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Chunk chunk = this.next;
+        this.next = null;
+        return chunk;
+    }
+
+    @Nullable
+    private Chunk computeNext() {
+        while (this.forcedIndex < this.forcedChunks.length) {
+            final Chunk chunk = this.forcedChunks[this.forcedIndex++];
+            // Unloaded or unforced since the snapshot was taken
+            if (chunk.isLoaded() && ((ChunkBridge) chunk).bridge$isPersistedChunk()) {
+                return chunk;
+            }
+        }
+        if (this.entries == null) {
+            return null;
+        }
+        while (this.entryIndex < this.entries.size()) {
+            final PlayerChunkMapEntry entry = this.entries.get(this.entryIndex++);
+            final Chunk chunk = entry.getChunk();
+            // Already returned as a forced chunk
+            if (chunk == null || ((ChunkBridge) chunk).bridge$isPersistedChunk()) {
+                continue;
+            }
+            // Same filter as PlayerChunkMap#getChunkIterator
+            if (!chunk.isLightPopulated() && chunk.isTerrainPopulated() || !chunk.wasTicked()
+                    || entry.hasPlayerMatchingInRange(PLAYER_RANGE, NOT_SPECTATOR)) {
+                return chunk;
+            }
+        }
+        return null;
+    }
+}
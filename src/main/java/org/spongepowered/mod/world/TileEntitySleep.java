@@ -0,0 +1,284 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityFurnace;
+import net.minecraft.tileentity.TileEntityHopper;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.mod.bridge.tileentity.TileEntityBridge_Forge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.TileEntitySleepCategory;
+import org.spongepowered.mod.mixin.core.tileentity.TileEntityHopperAccessor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * Puts tickable tile entities with nothing to do to sleep. A tile entity
+ * implementing {@link SleepingTickable} sleeps as soon as it reports having
+ * no work, one of the configured types once it was not marked dirty for the
+ * configured amount of ticks while its busy check, if any, failed. Sleeping
+ * tile entities are skipped by the tile entity tick loop until they are
+ * woken up by a neighbor change, a comparator update next to them, being
+ * marked dirty, a capability lookup or the maximum sleep time running out.
+ */
+public final class TileEntitySleep {
+
+    private static final Map<Class<? extends TileEntity>, Predicate<TileEntity>> busyChecks = new LinkedHashMap<>();
+    private static final Map<Class<?>, TileEntityType> types = new IdentityHashMap<>();
+    @Nullable private static List<String> resolvedTypes;
+    // Lets the wake up hooks return right away while nothing sleeps
+    private static int sleeping;
+
+    static {
+        registerBusyCheck(TileEntityHopper.class, tileEntity -> ((TileEntityHopperAccessor) tileEntity).forgeAccessor$getTransferCooldown() > 0);
+        // Field 2 is the cook time, which goes back down while the furnace is out of fuel
+        registerBusyCheck(TileEntityFurnace.class, tileEntity -> ((TileEntityFurnace) tileEntity).isBurning()
+                || ((TileEntityFurnace) tileEntity).getField(2) > 0);
+    }
+
+    private TileEntitySleep() {
+    }
+
+    /**
+     * Registers the check keeping a class of tile entities awake while they
+     * are working without being marked dirty, which also applies to its
+     * subclasses unless they have their own.
+     *
+     * @param type The tile entity class
+     * @param busy The check, true while the tile entity must keep ticking
+     */
+    public static void registerBusyCheck(final Class<? extends TileEntity> type, final Predicate<TileEntity> busy) {
+        busyChecks.put(type, busy);
+        for (TileEntityType tileEntityType : types.values()) {
+            tileEntityType.busy = resolveBusyCheck(tileEntityType.type);
+        }
+    }
+
+    /**
+     * Decides whether a tile entity is skipped this tick, putting it to
+     * sleep or waking it up on the way.
+     *
+     * @param tileEntity The tile entity about to be ticked
+     * @return True to skip the tick
+     */
+    public static boolean shouldSkip(final TileEntity tileEntity) {
+        final TileEntitySleepCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getTileEntitySleep();
+        final TileEntityBridge_Forge bridge = (TileEntityBridge_Forge) tileEntity;
+        if (!category.isEnabled()) {
+            if (bridge.forgeBridge$isSleeping()) {
+                wake(tileEntity);
+            }
+            return false;
+        }
+        final TileEntityType type = getType(tileEntity.getClass(), category);
+        if (!type.eligible && !(tileEntity instanceof SleepingTickable)) {
+            return false;
+        }
+        final long tick = tileEntity.getWorld().getTotalWorldTime();
+        if (bridge.forgeBridge$isSleeping()) {
+            if (tick < bridge.forgeBridge$getWakeTick()) {
+                type.sleptTicks++;
+                return true;
+            }
+            wake(tileEntity);
+        }
+        final boolean idle;
+        if (tileEntity instanceof SleepingTickable) {
+            idle = !((SleepingTickable) tileEntity).hasWork();
+        } else {
+            final boolean changed = bridge.forgeBridge$pollChanged();
+            final int idleTicks = changed || type.busy != null && type.busy.test(tileEntity) ? 0 : bridge.forgeBridge$getIdleTicks() + 1;
+            bridge.forgeBridge$setIdleTicks(idleTicks);
+            idle = idleTicks >= category.getIdleTicks();
+        }
+        if (!idle) {
+            type.awakeTicks++;
+            return false;
+        }
+        bridge.forgeBridge$setSleeping(true, tick + category.getMaxSleepTicks());
+        bridge.forgeBridge$setIdleTicks(0);
+        sleeping++;
+        type.sleeping++;
+        type.sleeps++;
+        type.sleptTicks++;
+        return true;
+    }
+
+    /**
+     * Wakes up a tile entity, which is ticked again from the next time the
+     * tile entity tick loop reaches it.
+     *
+     * @param tileEntity The tile entity
+     */
+    public static void wake(final TileEntity tileEntity) {
+        final TileEntityBridge_Forge bridge = (TileEntityBridge_Forge) tileEntity;
+        if (!bridge.forgeBridge$isSleeping()) {
+            return;
+        }
+        bridge.forgeBridge$setSleeping(false, 0);
+        sleeping--;
+        final TileEntityType type = types.get(tileEntity.getClass());
+        if (type != null) {
+            type.sleeping--;
+        }
+    }
+
+    /**
+     * Wakes up the tile entity at a position, if it is sleeping.
+     *
+     * @param world The world
+     * @param pos The position
+     */
+    public static void wakeAt(final World world, final BlockPos pos) {
+        if (sleeping == 0 || world.isRemote || !world.isBlockLoaded(pos)) {
+            return;
+        }
+        final TileEntity tileEntity = world.getChunk(pos).getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+        if (tileEntity != null) {
+            wake(tileEntity);
+        }
+    }
+
+    /**
+     * Wakes up the sleeping tile entities next to a position.
+     *
+     * @param world The world
+     * @param pos The position
+     */
+    public static void wakeAround(final World world, final BlockPos pos) {
+        if (sleeping == 0 || world.isRemote) {
+            return;
+        }
+        final BlockPos.PooledMutableBlockPos neighbor = BlockPos.PooledMutableBlockPos.retain();
+        try {
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                wakeAt(world, neighbor.setPos(pos).move(facing));
+            }
+        } finally {
+            neighbor.release();
+        }
+    }
+
+    public static int getSleeping() {
+        return sleeping;
+    }
+
+    public static Collection<TileEntityType> getTypes() {
+        return new ArrayList<>(types.values());
+    }
+
+    private static TileEntityType getType(final Class<? extends TileEntity> type, final TileEntitySleepCategory category) {
+        if (category.getTypes() != resolvedTypes) {
+            // The config was reloaded, the counters are kept
+            resolvedTypes = category.getTypes();
+            for (TileEntityType tileEntityType : types.values()) {
+                tileEntityType.eligible = isEligible(tileEntityType.id, category);
+            }
+        }
+        TileEntityType tileEntityType = types.get(type);
+        if (tileEntityType == null) {
+            final ResourceLocation id = TileEntity.getKey(type);
+            tileEntityType = new TileEntityType(type, id == null ? type.getName() : id.toString());
+            tileEntityType.eligible = isEligible(tileEntityType.id, category);
+            tileEntityType.busy = resolveBusyCheck(type);
+            types.put(type, tileEntityType);
+        }
+        return tileEntityType;
+    }
+
+    private static boolean isEligible(final String id, final TileEntitySleepCategory category) {
+        return category.getTypes().contains(id);
+    }
+
+    @Nullable
+    private static Predicate<TileEntity> resolveBusyCheck(final Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final Predicate<TileEntity> busy = busyChecks.get(current);
+            if (busy != null) {
+                return busy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The sleep counters of a class of tile entities.
+     */
+    public static final class TileEntityType {
+
+        final Class<?> type;
+        final String id;
+        boolean eligible;
+        @Nullable Predicate<TileEntity> busy;
+        private int sleeping;
+        private long sleeps;
+        private long sleptTicks;
+        private long awakeTicks;
+
+        TileEntityType(final Class<?> type, final String id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        public String getId() {
+            return this.id;
+        }
+
+        /**
+         * Gets the amount of tile entities of this type sleeping right now.
+         *
+         * @return The amount of sleeping tile entities
+         */
+        public int getSleeping() {
+            return this.sleeping;
+        }
+
+        public long getSleeps() {
+            return this.sleeps;
+        }
+
+        public long getSleptTicks() {
+            return this.sleptTicks;
+        }
+
+        public long getAwakeTicks() {
+            return this.awakeTicks;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.DimensionHibernationCategory;
+
+/**
+ * Tracks how long a dimension has been idle and puts it into hibernation once
+ * it has had no players and no forced chunks for long enough. A hibernating
+ * world stays loaded but is not ticked, its time does not advance, and all of
+ * its chunks except the kept spawn area are unloaded. It wakes up on the next
+ * tick once it is no longer idle, or when it is explicitly initialized again.
+ */
+public final class WorldHibernation {
+
+    private static final int TICKS_PER_SECOND = 20;
+
+    private final WorldServer world;
+    private int idleSinceTick = -1;
+    private boolean hibernating;
+
+    private int hibernations;
+    private int wakeUps;
+
+    public WorldHibernation(final WorldServer world) {
+        this.world = world;
+    }
+
+    /**
+     * Updates the idle state of the world.
+     *
+     * @param tick The current server tick
+     * @return True if the world should be ticked
+     */
+    public boolean tick(final int tick) {
+        final DimensionHibernationCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getDimensionHibernation();
+        if (!category.isEnabled() || !this.canHibernate()) {
+            this.wake();
+            this.idleSinceTick = -1;
+            return true;
+        }
+        if (this.hibernating) {
+            // Keep draining the unload queue until only the spawn area is left
+            this.world.getChunkProvider().tick();
+            return false;
+        }
+        if (this.idleSinceTick < 0) {
+            this.idleSinceTick = tick;
+        } else if (tick - this.idleSinceTick >= category.getIdleSeconds() * TICKS_PER_SECOND) {
+            this.hibernate();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean canHibernate() {
+        final int dimensionId = ((WorldServerBridge) this.world).bridge$getDimensionId();
+        return dimensionId != 0 && this.world.playerEntities.isEmpty() && this.world.getPersistentChunks().isEmpty()
+                && SpongeImplHooks.shouldKeepSpawnLoaded(this.world.provider.getDimensionType(), dimensionId);
+    }
+
+    private void hibernate() {
+        this.hibernating = true;
+        this.hibernations++;
+        this.world.getChunkProvider().queueUnloadAll();
+        SpongeImpl.getLogger().debug("World {} has been idle for a while and is now hibernating", this.world.getWorldInfo().getWorldName());
+    }
+
+    /**
+     * Resumes ticking the world if it is hibernating, restarting its idle
+     * timer.
+     */
+    public void wake() {
+        if (!this.hibernating) {
+            return;
+        }
+        this.hibernating = false;
+        this.idleSinceTick = -1;
+        this.wakeUps++;
+        SpongeImpl.getLogger().debug("World {} woke up from hibernation", this.world.getWorldInfo().getWorldName());
+    }
+
+    public boolean isHibernating() {
+        return this.hibernating;
+    }
+
+    public int getIdleSinceTick() {
+        return this.idleSinceTick;
+    }
+
+    public int getHibernations() {
+        return this.hibernations;
+    }
+
+    public int getWakeUps() {
+        return this.wakeUps;
+    }
+}
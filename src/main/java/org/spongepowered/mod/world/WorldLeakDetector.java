@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks unloaded worlds with phantom references until they are garbage
+ * collected. A world still not collected after the grace period is reported
+ * once. Checking only polls the reference queue and, while worlds are
+ * tracked, loops over them, so nothing is allocated while nothing leaks.
+ */
+public final class WorldLeakDetector {
+
+    private static final ReferenceQueue<WorldServer> queue = new ReferenceQueue<>();
+    // Keeps the phantom references reachable, indexed loops don't allocate iterators
+    private static final List<UnloadedWorld> tracked = new ArrayList<>();
+
+    private WorldLeakDetector() {
+    }
+
+    public static boolean isEnabled() {
+        return SpongeForgeConfigAdapter.getInstance().getConfig().getWorldLeakDetection().isEnabled();
+    }
+
+    /**
+     * Starts tracking the given world, which is being unloaded.
+     *
+     * @param world The world
+     */
+    public static void track(final WorldServer world) {
+        if (!isEnabled()) {
+            return;
+        }
+        for (int i = 0; i < tracked.size(); i++) {
+            if (tracked.get(i).identity == System.identityHashCode(world) && tracked.get(i).name.equals(world.getWorldInfo().getWorldName())) {
+                return;
+            }
+        }
+        tracked.add(new UnloadedWorld(world, queue));
+    }
+
+    /**
+     * Forgets the worlds that were collected and reports the ones past the
+     * grace period.
+     */
+    public static void check() {
+        Reference<? extends WorldServer> collected;
+        while ((collected = queue.poll()) != null) {
+            tracked.remove(collected);
+            // The referent of a phantom reference is only reclaimed once it is cleared
+            collected.clear();
+        }
+        if (tracked.isEmpty()) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final long grace = TimeUnit.SECONDS.toNanos(SpongeForgeConfigAdapter.getInstance().getConfig().getWorldLeakDetection().getGracePeriod());
+        for (int i = tracked.size() - 1; i >= 0; i--) {
+            final UnloadedWorld world = tracked.get(i);
+            if (world.reported || now - world.unloadedAt < grace) {
+                continue;
+            }
+            if (isLoaded(world)) {
+                // Unloading was cancelled, or the world was loaded again
+                tracked.remove(i).clear();
+                continue;
+            }
+            world.reported = true;
+            SpongeImpl.getLogger().warn("World {} (dimension {}, hash {}) was unloaded {}s ago but is still in memory, it may have leaked. "
+                    + "Run '/sponge perf leaks walk' to find what retains it.", world.name, world.dimensionId, world.identity,
+                    TimeUnit.NANOSECONDS.toSeconds(now - world.unloadedAt));
+        }
+    }
+
+    private static boolean isLoaded(final UnloadedWorld world) {
+        for (final WorldServer loaded : WorldManager.getWorlds()) {
+            if (System.identityHashCode(loaded) == world.identity && loaded.getWorldInfo().getWorldName().equals(world.name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the unloaded worlds that were not collected yet.
+     *
+     * @return The unloaded worlds
+     */
+    public static List<UnloadedWorld> getTracked() {
+        check();
+        return new ArrayList<>(tracked);
+    }
+
+    public static final class UnloadedWorld extends PhantomReference<WorldServer> {
+
+        final String name;
+        final int dimensionId;
+        final int identity;
+        final long unloadedAt = System.nanoTime();
+        boolean reported;
+
+        UnloadedWorld(final WorldServer world, final ReferenceQueue<WorldServer> queue) {
+            super(world, queue);
+            this.name = world.getWorldInfo().getWorldName();
+            this.dimensionId = ((WorldServerBridge) world).bridge$getDimensionId();
+            this.identity = System.identityHashCode(world);
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public int getDimensionId() {
+            return this.dimensionId;
+        }
+
+        public int getIdentity() {
+            return this.identity;
+        }
+
+        public long getSecondsSinceUnload() {
+            return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - this.unloadedAt);
+        }
+
+        public boolean isReported() {
+            return this.reported;
+        }
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.ints.AbstractIntIterator;
+import it.unimi.dsi.fastutil.ints.AbstractIntSet;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.AbstractObjectCollection;
+import it.unimi.dsi.fastutil.objects.AbstractObjectIterator;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectCollection;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.world.WorldManager;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * Looks up loaded worlds by dimension id through an array indexed by the id,
+ * offset by the lowest loaded id. The array and the dimension id arrays handed
+ * to mods are immutable snapshots, rebuilt on the first lookup after a world
+ * was loaded or unloaded, so lookups take no lock and allocate nothing.
+ */
+public final class WorldLookup {
+
+    // Worlds with ids further apart than this from the lowest id are looked up in the world manager
+    private static final int MAX_RANGE = 1 << 16;
+
+    private static final AtomicInteger loadedVersion = new AtomicInteger();
+    private static final AtomicReference<Snapshot> loaded = new AtomicReference<>();
+    private static final AtomicInteger staticVersion = new AtomicInteger();
+    private static final AtomicReference<Integer[]> staticIds = new AtomicReference<>();
+
+    private WorldLookup() {
+    }
+
+    @Nullable
+    public static WorldServer getWorld(final int id) {
+        final Snapshot snapshot = getLoaded();
+        final int index = id - snapshot.offset;
+        if (index >= 0 && index < snapshot.worlds.length) {
+            return snapshot.worlds[index];
+        }
+        return snapshot.partial ? WorldManager.getWorldByDimensionId(id).orElse(null) : null;
+    }
+
+    /**
+     * Gets the ids of the loaded worlds. The array is shared and must not be
+     * modified.
+     *
+     * @return The loaded dimension ids
+     */
+    public static Integer[] getLoadedIds() {
+        return getLoaded().ids;
+    }
+
+    /**
+     * Gets the ids of the registered dimensions. The array is shared and must
+     * not be modified.
+     *
+     * @return The registered dimension ids
+     */
+    public static Integer[] getStaticIds() {
+        Integer[] ids = staticIds.get();
+        if (ids == null) {
+            final int version = staticVersion.get();
+            ids = box(WorldManager.getRegisteredDimensionIds());
+            // Don't publish ids read while a dimension was being registered
+            if (staticVersion.get() == version) {
+                staticIds.compareAndSet(null, ids);
+            }
+        }
+        return ids;
+    }
+
+    public static void invalidateLoaded() {
+        loadedVersion.incrementAndGet();
+        loaded.set(null);
+    }
+
+    public static void invalidateStatic() {
+        staticVersion.incrementAndGet();
+        staticIds.set(null);
+    }
+
+    private static Snapshot getLoaded() {
+        Snapshot snapshot = loaded.get();
+        if (snapshot == null) {
+            final int version = loadedVersion.get();
+            snapshot = new Snapshot(WorldManager.getLoadedWorldDimensionIds());
+            if (loadedVersion.get() == version) {
+                loaded.compareAndSet(null, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    private static Integer[] box(final int[] ids) {
+        final Integer[] boxed = new Integer[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            boxed[i] = ids[i];
+        }
+        return boxed;
+    }
+
+    private static final class Snapshot {
+
+        final Integer[] ids;
+        final int offset;
+        final WorldServer[] worlds;
+        final boolean partial;
+
+        Snapshot(final int[] ids) {
+            this.ids = box(ids);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (final int id : ids) {
+                min = Math.min(min, id);
+                max = Math.max(max, id);
+            }
+            if (ids.length == 0) {
+                this.offset = 0;
+                this.worlds = new WorldServer[0];
+                this.partial = false;
+                return;
+            }
+            this.offset = min;
+            this.worlds = new WorldServer[(int) Math.min((long) max - min + 1, MAX_RANGE)];
+            boolean partial = false;
+            for (final int id : ids) {
+                if ((long) id - min < this.worlds.length) {
+                    this.worlds[id - min] = WorldManager.getWorldByDimensionId(id).orElse(null);
+                } else {
+                    partial = true;
+                }
+            }
+            this.partial = partial;
+        }
+    }
+
+    /**
+     * The world manager's map of worlds by dimension id, invalidating the
+     * lookup whenever a world is added or removed, including through the
+     * views of the map and the default map methods.
+     */
+    public static final class WorldMap extends Int2ObjectOpenHashMap<WorldServer> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public WorldServer put(final int key, final WorldServer value) {
+            try {
+                return super.put(key, value);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Deprecated
+        @Override
+        public WorldServer put(final Integer key, final WorldServer value) {
+            return this.put(key.intValue(), value);
+        }
+
+        @Override
+        public void putAll(final Map<? extends Integer, ? extends WorldServer> map) {
+            try {
+                super.putAll(map);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public WorldServer putIfAbsent(final Integer key, final WorldServer value) {
+            try {
+                return super.putIfAbsent(key, value);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public WorldServer remove(final int key) {
+            try {
+                return super.remove(key);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Deprecated
+        @Override
+        public WorldServer remove(final Object key) {
+            return key instanceof Integer ? this.remove(((Integer) key).intValue()) : null;
+        }
+
+        @Override
+        public boolean remove(final Object key, final Object value) {
+            try {
+                return super.remove(key, value);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public WorldServer replace(final Integer key, final WorldServer value) {
+            try {
+                return super.replace(key, value);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public boolean replace(final Integer key, final WorldServer oldValue, final WorldServer newValue) {
+            try {
+                return super.replace(key, oldValue, newValue);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public void replaceAll(final BiFunction<? super Integer, ? super WorldServer, ? extends WorldServer> function) {
+            try {
+                super.replaceAll(function);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public WorldServer computeIfAbsent(final Integer key, final Function<? super Integer, ? extends WorldServer> function) {
+            try {
+                return super.computeIfAbsent(key, function);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public WorldServer computeIfPresent(final Integer key,
+                final BiFunction<? super Integer, ? super WorldServer, ? extends WorldServer> function) {
+            try {
+                return super.computeIfPresent(key, function);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public WorldServer compute(final Integer key, final BiFunction<? super Integer, ? super WorldServer, ? extends WorldServer> function) {
+            try {
+                return super.compute(key, function);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public WorldServer merge(final Integer key, final WorldServer value,
+                final BiFunction<? super WorldServer, ? super WorldServer, ? extends WorldServer> function) {
+            try {
+                return super.merge(key, value, function);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            invalidateLoaded();
+        }
+
+        @Override
+        public IntSet keySet() {
+            final IntSet keys = super.keySet();
+            return new AbstractIntSet() {
+
+                @Override
+                public IntIterator iterator() {
+                    final IntIterator iterator = keys.iterator();
+                    return new AbstractIntIterator() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public int nextInt() {
+                            return iterator.nextInt();
+                        }
+
+                        @Override
+                        public void remove() {
+                            iterator.remove();
+                            invalidateLoaded();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.size();
+                }
+
+                @Override
+                public boolean contains(final int key) {
+                    return keys.contains(key);
+                }
+
+                @Override
+                public void clear() {
+                    WorldMap.this.clear();
+                }
+            };
+        }
+
+        @Override
+        public ObjectCollection<WorldServer> values() {
+            final ObjectCollection<WorldServer> values = super.values();
+            return new AbstractObjectCollection<WorldServer>() {
+
+                @Override
+                public ObjectIterator<WorldServer> iterator() {
+                    return new InvalidatingIterator<>(values.iterator());
+                }
+
+                @Override
+                public int size() {
+                    return values.size();
+                }
+
+                @Override
+                public boolean contains(final Object value) {
+                    return values.contains(value);
+                }
+
+                @Override
+                public void clear() {
+                    WorldMap.this.clear();
+                }
+            };
+        }
+
+        @Override
+        public ObjectSet<Int2ObjectMap.Entry<WorldServer>> int2ObjectEntrySet() {
+            final ObjectSet<Int2ObjectMap.Entry<WorldServer>> entries = super.int2ObjectEntrySet();
+            return new AbstractObjectSet<Int2ObjectMap.Entry<WorldServer>>() {
+
+                @Override
+                public ObjectIterator<Int2ObjectMap.Entry<WorldServer>> iterator() {
+                    final ObjectIterator<Int2ObjectMap.Entry<WorldServer>> iterator = entries.iterator();
+                    return new InvalidatingIterator<Int2ObjectMap.Entry<WorldServer>>(iterator) {
+
+                        @Override
+                        public Int2ObjectMap.Entry<WorldServer> next() {
+                            return new InvalidatingEntry(iterator.next());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+
+                @Override
+                public boolean contains(final Object entry) {
+                    return entries.contains(entry);
+                }
+
+                @Override
+                public void clear() {
+                    WorldMap.this.clear();
+                }
+            };
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public ObjectSet<Map.Entry<Integer, WorldServer>> entrySet() {
+            return (ObjectSet) this.int2ObjectEntrySet();
+        }
+    }
+
+    private static class InvalidatingIterator<T> extends AbstractObjectIterator<T> {
+
+        private final ObjectIterator<? extends T> iterator;
+
+        InvalidatingIterator(final ObjectIterator<? extends T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return this.iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            this.iterator.remove();
+            invalidateLoaded();
+        }
+    }
+
+    private static final class InvalidatingEntry implements Int2ObjectMap.Entry<WorldServer> {
+
+        private final Int2ObjectMap.Entry<WorldServer> entry;
+
+        InvalidatingEntry(final Int2ObjectMap.Entry<WorldServer> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public int getIntKey() {
+            return this.entry.getIntKey();
+        }
+
+        @Deprecated
+        @Override
+        public Integer getKey() {
+            return this.entry.getIntKey();
+        }
+
+        @Override
+        public WorldServer getValue() {
+            return this.entry.getValue();
+        }
+
+        @Override
+        public WorldServer setValue(final WorldServer value) {
+            try {
+                return this.entry.setValue(value);
+            } finally {
+                invalidateLoaded();
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this.entry.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.entry.hashCode();
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minecraft.launchwrapper.Launch;
+import net.minecraft.launchwrapper.LaunchClassLoader;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
+import org.spongepowered.common.SpongeImpl;
+
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Walks the heap from the static fields of every class loaded by the launch
+ * class loader, the running threads and the mod instances, looking for the
+ * reference chains retaining unloaded worlds. Java has no API to enumerate
+ * the actual GC roots without a heap dump, these cover the roots mods leak
+ * worlds through. The walked objects are live game state, so the roots are
+ * snapshot and walked on the main thread, a slice of the walk each tick.
+ */
+public final class WorldRetentionWalker {
+
+    private static final int MAX_PATHS_PER_WORLD = 5;
+    private static final int MAX_PATH_LENGTH = 16;
+
+    private final IntSet leaked = new IntOpenHashSet();
+    private final Set<Object> loaded = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Class<?>, Field[]> fields = new HashMap<>();
+    private final Map<Integer, List<String>> paths = new HashMap<>();
+    private final List<Root> roots = new ArrayList<>();
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private final int maxObjects;
+    private int nextRoot;
+
+    public WorldRetentionWalker(final List<WorldLeakDetector.UnloadedWorld> unloaded, final Iterable<WorldServer> loaded, final int maxObjects) {
+        for (final WorldLeakDetector.UnloadedWorld world : unloaded) {
+            this.leaked.add(world.getIdentity());
+        }
+        for (final WorldServer world : loaded) {
+            this.loaded.add(world);
+        }
+        this.maxObjects = maxObjects;
+        this.collectRoots();
+    }
+
+    // Snapshots the roots up front, the walker being created on the main thread
+    private void collectRoots() {
+        for (final ModContainer mod : Loader.instance().getActiveModList()) {
+            if (mod.getMod() != null) {
+                this.roots.add(new Root("mod " + mod.getModId(), mod.getMod()));
+            }
+        }
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            this.roots.add(new Root("thread " + thread.getName(), thread));
+        }
+        for (final Class<?> type : getLoadedClasses()) {
+            final Field[] declared;
+            try {
+                declared = type.getDeclaredFields();
+            } catch (Throwable t) {
+                continue;
+            }
+            for (final Field field : declared) {
+                if (!Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                final Object value;
+                try {
+                    field.setAccessible(true);
+                    value = field.get(null);
+                } catch (Throwable t) {
+                    continue;
+                }
+                if (value != null) {
+                    this.roots.add(new Root(type.getName() + "." + field.getName(), value));
+                }
+            }
+        }
+    }
+
+    /**
+     * Continues the walk from where the previous call stopped, must be
+     * called on the main thread.
+     *
+     * @param budget The amount of nanoseconds to walk for
+     * @return True once the walk is done
+     */
+    public boolean walk(final long budget) {
+        final long deadline = System.nanoTime() + budget;
+        int steps = 0;
+        while (this.visited.size() < this.maxObjects) {
+            if (this.stack.isEmpty()) {
+                if (this.nextRoot >= this.roots.size()) {
+                    return true;
+                }
+                final Root root = this.roots.set(this.nextRoot++, null);
+                if (this.shouldWalk(root.value)) {
+                    this.stack.push(this.frame(root.label, root.value));
+                }
+                continue;
+            }
+            // Reading the clock for every object would cost more than the walk itself
+            if ((++steps & 1023) == 0 && System.nanoTime() >= deadline) {
+                return false;
+            }
+            this.step();
+        }
+        return true;
+    }
+
+    /**
+     * Gets the retaining reference chains found so far.
+     *
+     * @return The reference chains for each unloaded world, by identity hash
+     *     code
+     */
+    public Map<Integer, List<String>> getPaths() {
+        return this.paths;
+    }
+
+    private static List<Class<?>> getLoadedClasses() {
+        try {
+            final Field cachedClasses = LaunchClassLoader.class.getDeclaredField("cachedClasses");
+            cachedClasses.setAccessible(true);
+            @SuppressWarnings("unchecked")
+            final Map<String, Class<?>> classes = (Map<String, Class<?>>) cachedClasses.get(Launch.classLoader);
+            return new ArrayList<>(classes.values());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            SpongeImpl.getLogger().warn("Could not list the loaded classes, only mods and threads are walked", e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Walks the next reference of the object on top of the stack, depth
+     * first, the stack of the walk being the reference chain to the current
+     * object.
+     */
+    private void step() {
+        final Frame frame = this.stack.peek();
+        if (frame.done()) {
+            this.stack.pop();
+            return;
+        }
+        final Object next = frame.next();
+        if (next != null && next != Frame.SKIP) {
+            if (next instanceof WorldServer && !this.loaded.contains(next) && this.leaked.contains(System.identityHashCode(next))) {
+                this.record(System.identityHashCode(next), this.stack, frame.lastLabel());
+            } else if (this.shouldWalk(next)) {
+                this.stack.push(this.frame(frame.lastLabel(), next));
+            }
+        }
+    }
+
+    private boolean shouldWalk(final Object value) {
+        final Class<?> type = value.getClass();
+        return !(value instanceof Class || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || type.isArray() && type.getComponentType().isPrimitive()) && this.visited.add(value);
+    }
+
+    private Frame frame(final String label, final Object value) {
+        return new Frame(label, value, value.getClass().isArray() ? null : this.getFields(value.getClass()));
+    }
+
+    private Field[] getFields(final Class<?> type) {
+        Field[] cached = this.fields.get(type);
+        if (cached == null) {
+            final List<Field> list = new ArrayList<>();
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                final Field[] declared;
+                try {
+                    declared = current.getDeclaredFields();
+                } catch (Throwable t) {
+                    continue;
+                }
+                for (final Field field : declared) {
+                    // Referents of weak and soft references don't retain anything
+                    if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()
+                            || current == Reference.class && field.getName().equals("referent")) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        list.add(field);
+                    } catch (RuntimeException ignored) {
+                    }
+                }
+            }
+            cached = list.toArray(new Field[0]);
+            this.fields.put(type, cached);
+        }
+        return cached;
+    }
+
+    private void record(final int identity, final Deque<Frame> stack, final String last) {
+        final List<String> found = this.paths.computeIfAbsent(identity, key -> new ArrayList<>());
+        if (found.size() >= MAX_PATHS_PER_WORLD) {
+            return;
+        }
+        final List<String> labels = new ArrayList<>();
+        stack.descendingIterator().forEachRemaining(frame -> labels.add(frame.label));
+        labels.add(last);
+        if (labels.size() > MAX_PATH_LENGTH) {
+            final List<String> shortened = new ArrayList<>(labels.subList(0, MAX_PATH_LENGTH / 2));
+            shortened.add("...");
+            shortened.addAll(labels.subList(labels.size() - MAX_PATH_LENGTH / 2, labels.size()));
+            found.add(String.join(" -> ", shortened));
+        } else {
+            found.add(String.join(" -> ", labels));
+        }
+    }
+
+    private static final class Root {
+
+        final String label;
+        final Object value;
+
+        Root(final String label, final Object value) {
+            this.label = label;
+            this.value = value;
+        }
+    }
+
+    private static final class Frame {
+
+        static final Object SKIP = new Object();
+
+        final String label;
+        final Object value;
+        @Nullable final Field[] fields;
+        int index;
+
+        Frame(final String label, final Object value, @Nullable final Field[] fields) {
+            this.label = label;
+            this.value = value;
+            this.fields = fields;
+        }
+
+        Object next() {
+            final int current = this.index++;
+            if (this.fields == null) {
+                return ((Object[]) this.value)[current];
+            }
+            try {
+                return this.fields[current].get(this.value);
+            } catch (Throwable t) {
+                return SKIP;
+            }
+        }
+
+        boolean done() {
+            return this.index >= (this.fields == null ? ((Object[]) this.value).length : this.fields.length);
+        }
+
+        // Only built for the objects walked into, most references lead to visited objects
+        String lastLabel() {
+            if (this.fields == null) {
+                return "[" + (this.index - 1) + "]";
+            }
+            return this.value.getClass().getSimpleName() + "." + this.fields[this.index - 1].getName();
+        }
+    }
+}
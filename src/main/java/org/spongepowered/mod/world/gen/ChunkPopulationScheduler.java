@@ -0,0 +1,233 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.gen;
+
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.mod.bridge.world.chunk.ChunkBridge_Forge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.ChunkPopulationCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues chunks that have become populatable and populates them at the end
+ * of the world tick within a per tick time budget that is shared across all
+ * worlds. Chunks closest to a player are populated first.
+ *
+ * <p>A queued chunk is simply left unpopulated until its turn comes. If it is
+ * unloaded before that it is dropped from the queue and will be populated the
+ * next time it becomes populatable, as in vanilla.</p>
+ */
+public final class ChunkPopulationScheduler {
+
+    private static final long NOT_POPULATING = Long.MIN_VALUE;
+    private static final Map<String, PopulatorCost> populatorCosts = new Object2ObjectOpenHashMap<>();
+
+    private static int budgetTick = -1;
+    private static long remainingBudgetNanos;
+
+    private final WorldServer world;
+    private final LongLinkedOpenHashSet queue = new LongLinkedOpenHashSet();
+    private long populating = NOT_POPULATING;
+
+    private long totalQueued;
+    private long totalPopulated;
+    private int lastTickPopulated;
+    private long lastTickNanos;
+
+    public ChunkPopulationScheduler(final WorldServer world) {
+        this.world = world;
+    }
+
+    /**
+     * Called when the given chunk is about to be populated.
+     *
+     * @param chunk The chunk
+     * @return True if the population was queued and must not happen now
+     */
+    public boolean defer(final Chunk chunk) {
+        final long key = ChunkPos.asLong(chunk.x, chunk.z);
+        if (key == this.populating || !SpongeForgeConfigAdapter.getInstance().getConfig().getChunkPopulation().isTimeSliced()) {
+            return false;
+        }
+        if (this.queue.add(key)) {
+            this.totalQueued++;
+        }
+        return true;
+    }
+
+    public void remove(final Chunk chunk) {
+        this.queue.remove(ChunkPos.asLong(chunk.x, chunk.z));
+    }
+
+    public void tick() {
+        this.lastTickPopulated = 0;
+        this.lastTickNanos = 0;
+        if (this.queue.isEmpty()) {
+            return;
+        }
+        final ChunkPopulationCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getChunkPopulation();
+        final int tick = this.world.getMinecraftServer().getTickCounter();
+        if (tick != budgetTick) {
+            budgetTick = tick;
+            remainingBudgetNanos = TimeUnit.MILLISECONDS.toNanos(category.getTickBudgetMillis());
+        }
+
+        final ChunkProviderServer provider = this.world.getChunkProvider();
+        for (final long key : this.sortByPlayerDistance()) {
+            if (this.lastTickPopulated > 0 && remainingBudgetNanos <= 0) {
+                break;
+            }
+            this.queue.remove(key);
+            final int x = (int) key;
+            final int z = (int) (key >> 32);
+            final Chunk chunk = provider.getLoadedChunk(x, z);
+            // Neighbors that went away in the meantime will queue this chunk again once they are back
+            if (chunk == null || chunk.isTerrainPopulated() || provider.getLoadedChunk(x + 1, z) == null
+                    || provider.getLoadedChunk(x, z + 1) == null || provider.getLoadedChunk(x + 1, z + 1) == null) {
+                continue;
+            }
+            final long start = System.nanoTime();
+            this.populating = key;
+            try {
+                ((ChunkBridge_Forge) chunk).forgeBridge$populateNow(((WorldServerBridge) this.world).bridge$getSpongeGenerator());
+            } finally {
+                this.populating = NOT_POPULATING;
+            }
+            final long elapsed = System.nanoTime() - start;
+            remainingBudgetNanos -= elapsed;
+            this.lastTickNanos += elapsed;
+            this.lastTickPopulated++;
+            this.totalPopulated++;
+        }
+    }
+
+    private long[] sortByPlayerDistance() {
+        final long[] keys = this.queue.toLongArray();
+        final List<EntityPlayer> players = this.world.playerEntities;
+        if (players.isEmpty()) {
+            return keys;
+        }
+        // Pack the squared chunk distance to the closest player above the queue index so a plain sort orders by proximity
+        final long[] order = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final int x = (int) keys[i];
+            final int z = (int) (keys[i] >> 32);
+            long closest = Long.MAX_VALUE;
+            for (final EntityPlayer player : players) {
+                final long dx = (MathHelper.floor(player.posX) >> 4) - x;
+                final long dz = (MathHelper.floor(player.posZ) >> 4) - z;
+                closest = Math.min(closest, dx * dx + dz * dz);
+            }
+            // Distances near the world border exceed 31 bits, which would make the key negative
+            order[i] = Math.min(closest, Integer.MAX_VALUE) << 32 | i & 0xFFFFFFFFL;
+        }
+        Arrays.sort(order);
+        final long[] sorted = new long[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = keys[(int) order[i]];
+        }
+        return sorted;
+    }
+
+    public int getQueueSize() {
+        return this.queue.size();
+    }
+
+    public long getTotalQueued() {
+        return this.totalQueued;
+    }
+
+    public long getTotalPopulated() {
+        return this.totalPopulated;
+    }
+
+    public int getLastTickPopulated() {
+        return this.lastTickPopulated;
+    }
+
+    public long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+
+    /**
+     * Records the time spent by a single populator, recorded alongside the
+     * populator timings of the chunk generator.
+     *
+     * @param id The populator type id
+     * @param nanos The time spent
+     */
+    public static void recordPopulatorCost(final String id, final long nanos) {
+        PopulatorCost cost = populatorCosts.get(id);
+        if (cost == null) {
+            cost = new PopulatorCost(id);
+            populatorCosts.put(id, cost);
+        }
+        cost.calls++;
+        cost.nanos += nanos;
+    }
+
+    public static List<PopulatorCost> getPopulatorCosts() {
+        final List<PopulatorCost> costs = new ArrayList<>(populatorCosts.values());
+        costs.sort(Collections.reverseOrder((a, b) -> Long.compare(a.nanos, b.nanos)));
+        return costs;
+    }
+
+    public static final class PopulatorCost {
+
+        private final String id;
+        long calls;
+        long nanos;
+
+        PopulatorCost(final String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return this.id;
+        }
+
+        public long getCalls() {
+            return this.calls;
+        }
+
+        public long getNanos() {
+            return this.nanos;
+        }
+    }
+}
@@ -109,12 +109,16 @@
 import org.spongepowered.common.world.gen.populators.AnimalPopulator;
 import org.spongepowered.common.world.gen.populators.PlainsGrassPopulator;
 import org.spongepowered.common.world.gen.populators.SnowPopulator;
+import org.spongepowered.mod.bridge.event.EventBusBridge_Forge;
+import org.spongepowered.mod.event.SpongeModEventManager;
 import org.spongepowered.mod.util.CompatibilityException;
 import org.spongepowered.mod.util.StaticMixinForgeHelper;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
@@ -127,6 +131,8 @@
 public final class SpongeChunkGeneratorForge extends SpongeChunkGenerator {
 
     @Nullable private IChunkGenerator moddedGeneratorFallback = null;
+    private final Map<BiomeType, PopulatorChain> populatorChains = new IdentityHashMap<>();
+    private final TerrainGenListeners listeners = new TerrainGenListeners();
 
     public SpongeChunkGeneratorForge(final World world, final GenerationPopulator generationPopulator, final BiomeGenerator biomeGenerator) {
         super(world, generationPopulator, biomeGenerator);
@@ -148,10 +154,12 @@ public SpongeChunkGeneratorForge(final World world, final GenerationPopulator ge
 
     @Override
     public void replaceBiomeBlocks(final World world, final Random rand, final int x, final int z, final ChunkPrimer chunk, final ImmutableBiomeVolume biomes) {
-        final ChunkGeneratorEvent.ReplaceBiomeBlocks event = new ChunkGeneratorEvent.ReplaceBiomeBlocks(this, x, z, chunk, world);
-        MinecraftForge.EVENT_BUS.post(event);
-        if (event.getResult() == Result.DENY)
-            return;
+        if (((EventBusBridge_Forge) MinecraftForge.EVENT_BUS).forgeBridge$hasListeners(ChunkGeneratorEvent.ReplaceBiomeBlocks.class)) {
+            final ChunkGeneratorEvent.ReplaceBiomeBlocks event = new ChunkGeneratorEvent.ReplaceBiomeBlocks(this, x, z, chunk, world);
+            MinecraftForge.EVENT_BUS.post(event);
+            if (event.getResult() == Result.DENY)
+                return;
+        }
         super.replaceBiomeBlocks(world, rand, x, z, chunk, biomes);
     }
 
@@ -203,51 +211,54 @@ public void populate(final int chunkX, final int chunkZ) {
 
         final BiomeGenerationSettings settings = getBiomeSettings(biome);
 
-        final List<Populator> populators = new ArrayList<>(this.pop);
-
-        Populator snowPopulator = null;
-        final Iterator<Populator> itr = populators.iterator();
-        while (itr.hasNext()) {
-            final Populator populator = itr.next();
-            if (populator instanceof SnowPopulator) {
-                itr.remove();
-                snowPopulator = populator;
-                break;
-            }
-        }
-
-        populators.addAll(settings.getPopulators());
-        if (snowPopulator != null) {
-            populators.add(snowPopulator);
+        final PopulatorChain chain = this.getPopulatorChain(biome, settings, chunk);
+        final TerrainGenListeners listeners = this.listeners;
+        listeners.refresh();
+        final List<Populator> populators;
+        if (listeners.spongePre) {
+            populators = new ArrayList<>(chain.populators);
+            Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPre(Sponge.getCauseStackManager().getCurrentCause(), populators, chunk));
+        } else {
+            populators = chain.populators;
         }
 
-        Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPre(Sponge.getCauseStackManager().getCurrentCause(), populators, chunk));
+        // Plugins may change the populators for this chunk, in which case their Forge events are resolved on the fly
+        final boolean chainUnchanged = PopulatorChain.sameElements(chain.populators, populators);
+        final ForgePopulatorEvents[] forgeEvents = chainUnchanged ? chain.forgeEvents : this.resolveForgeEvents(populators, chunk);
 
-        MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Pre(this, this.world, this.rand, chunkX, chunkZ, false));
-        MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Pre(this.world, this.rand, blockpos));
-        MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Pre(this.world, this.rand, blockpos));
+        if (listeners.populatePre) {
+            MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Pre(this, this.world, this.rand, chunkX, chunkZ, false));
+        }
+        if (listeners.decoratePre) {
+            MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Pre(this.world, this.rand, blockpos));
+        }
+        if (listeners.orePre) {
+            MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Pre(this.world, this.rand, blockpos));
+        }
         final List<String> flags = Lists.newArrayList();
         final Vector3i min = PhaseTracker.getInstance().getCurrentState().getChunkPopulatorOffset(chunk, chunkX, chunkZ);
         final org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) this.world;
         final Extent volume = new SoftBufferExtentViewDownsize(chunk.getWorld(), min, min.add(15, 255, 15), min.sub(8, 0, 8), min.add(23, 255, 23));
 
-        for (final Populator populator : populators) {
+        for (int index = 0; index < populators.size(); index++) {
+            final Populator populator = populators.get(index);
+            final ForgePopulatorEvents events = forgeEvents[index];
             if (!(populator instanceof PlainsGrassPopulator)) {
-                if (!this.checkForgeEvent(populator, this, chunkX, chunkZ, flags, chunk)) {
+                if (!this.checkForgeEvent(populator, events, this, chunkX, chunkZ, flags, chunk)) {
                     continue;
                 }
             } else {
                 final PlainsGrassPopulator grassPop = (PlainsGrassPopulator) populator;
 
-                if (!this.checkForgeEvent(grassPop.getFlowers(), this, chunkX, chunkZ, flags, chunk)) {
+                if (!this.checkForgeEvent(grassPop.getFlowers(), events.flowers, this, chunkX, chunkZ, flags, chunk)) {
                     grassPop.setPopulateFlowers(false);
                 }
 
-                if (!this.checkForgeEvent(grassPop.getGrass(), this, chunkX, chunkZ, flags, chunk)) {
+                if (!this.checkForgeEvent(grassPop.getGrass(), events.grass, this, chunkX, chunkZ, flags, chunk)) {
                     grassPop.setPopulateGrass(false);
                 }
 
-                if (!this.checkForgeEvent(grassPop.getPlant(), this, chunkX, chunkZ, flags, chunk)) {
+                if (!this.checkForgeEvent(grassPop.getPlant(), events.plant, this, chunkX, chunkZ, flags, chunk)) {
                     grassPop.setPopulateGrass(false);
                 }
 
@@ -258,7 +269,8 @@ public void populate(final int chunkX, final int chunkZ) {
 
             final PopulatorType type = populator.getType();
 
-            if (Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPopulate(Sponge.getCauseStackManager().getCurrentCause(), populator, chunk))) {
+            if (listeners.spongePopulate && Sponge.getGame().getEventManager().post(
+                    SpongeEventFactory.createPopulateChunkEventPopulate(Sponge.getCauseStackManager().getCurrentCause(), populator, chunk))) {
                 continue;
             }
 
@@ -275,20 +287,28 @@ public void populate(final int chunkX, final int chunkZ) {
                     }
                     timing.startTimingIfSync();
                 }
+                final long start = System.nanoTime();
                 if (populator instanceof FlaggedPopulatorBridge) {
                     ((FlaggedPopulatorBridge) populator).bridge$populate(spongeWorld, volume, this.rand, biomeBuffer, flags);
                 } else {
                     populator.populate(spongeWorld, volume, this.rand, biomeBuffer);
                 }
+                ChunkPopulationScheduler.recordPopulatorCost(type.getId(), System.nanoTime() - start);
                 if (timing != null) {
                     timing.stopTimingIfSync();
                 }
             }
         }
 
-        MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Post(this.world, this.rand, blockpos));
-        MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Post(this.world, this.rand, blockpos));
-        MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Post(this, this.world, this.rand, chunkX, chunkZ, false));
+        if (listeners.orePost) {
+            MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Post(this.world, this.rand, blockpos));
+        }
+        if (listeners.decoratePost) {
+            MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Post(this.world, this.rand, blockpos));
+        }
+        if (listeners.populatePost) {
+            MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Post(this, this.world, this.rand, chunkX, chunkZ, false));
+        }
 
         // If we wrapped a custom chunk provider then we should call its
         // populate method so that its particular changes are used.
@@ -305,87 +325,143 @@ public void populate(final int chunkX, final int chunkZ) {
                     .assignModCompatiblity(this, this.world.getChunkProvider(),  chunkGenerator)
                     .world(this.world)) {
                 context.buildAndSwitch();
+                final long start = System.nanoTime();
                 chunkGenerator.populate(chunkX, chunkZ);
+                ChunkPopulationScheduler.recordPopulatorCost(chunkGenerator.getClass().getName(), System.nanoTime() - start);
             }
             if (Timings.isTimingsEnabled()) {
                 timing.stopTimingIfSync();
             }
         }
 
-        final org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Post event =
-                SpongeEventFactory.createPopulateChunkEventPost(Sponge.getCauseStackManager().getCurrentCause(), ImmutableList.copyOf(populators), chunk);
-        SpongeImpl.postEvent(event);
+        if (listeners.spongePost) {
+            final org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Post event =
+                    SpongeEventFactory.createPopulateChunkEventPost(Sponge.getCauseStackManager().getCurrentCause(),
+                            chainUnchanged ? chain.populators : ImmutableList.copyOf(populators), chunk);
+            SpongeImpl.postEvent(event);
+        }
 
         BlockFalling.fallInstantly = false;
         this.chunkGeneratorTiming.stopTimingIfSync();
         ((WorldServerBridge) spongeWorld).bridge$getTimingsHandler().chunkPopulate.stopTimingIfSync();
     }
 
-    @SuppressWarnings("deprecation")
-    private boolean checkForgeEvent(final Populator populator, final IChunkGenerator chunkProvider, final int chunkX, final int chunkZ, final List<String> flags, final Chunk chunk) {
-        final boolean village_flag = flags.contains(WorldGenConstants.VILLAGE_FLAG);
-        if (populator instanceof Ore && populator instanceof WorldGenerator) {
-            final BlockType type = ((Ore) populator).getOreBlock().getType();
-            GenerateMinable.EventType otype = null;
-            if (type.equals(BlockTypes.DIRT)) {
-                otype = GenerateMinable.EventType.DIRT;
-            } else if (type.equals(BlockTypes.GRAVEL)) {
-                otype = GenerateMinable.EventType.GRAVEL;
-            } else if (type.equals(BlockTypes.STONE)) {
-                final BlockState state = ((Ore) populator).getOreBlock();
-                final Optional<StoneType> stype;
-                if ((stype = state.get(Keys.STONE_TYPE)).isPresent()) {
-                    final StoneType stoneType = stype.get();
-                    if (stoneType.equals(StoneTypes.DIORITE)) {
-                        otype = GenerateMinable.EventType.DIORITE;
-                    } else if (stoneType.equals(StoneTypes.ANDESITE)) {
-                        otype = GenerateMinable.EventType.ANDESITE;
-                    } else if (stoneType.equals(StoneTypes.GRANITE)) {
-                        otype = GenerateMinable.EventType.GRANITE;
-                    } else {
-                        return true;
-                    }
+    private PopulatorChain getPopulatorChain(final BiomeType biome, final BiomeGenerationSettings settings, final Chunk chunk) {
+        PopulatorChain chain = this.populatorChains.get(biome);
+        if (chain == null || !chain.isValidFor(this.pop, settings)) {
+            final List<Populator> populators = new ArrayList<>(this.pop);
+
+            Populator snowPopulator = null;
+            final Iterator<Populator> itr = populators.iterator();
+            while (itr.hasNext()) {
+                final Populator populator = itr.next();
+                if (populator instanceof SnowPopulator) {
+                    itr.remove();
+                    snowPopulator = populator;
+                    break;
                 }
-            } else if (type.equals(BlockTypes.COAL_ORE)) {
-                otype = GenerateMinable.EventType.COAL;
-            } else if (type.equals(BlockTypes.IRON_ORE)) {
-                otype = GenerateMinable.EventType.IRON;
-            } else if (type.equals(BlockTypes.GOLD_ORE)) {
-                otype = GenerateMinable.EventType.GOLD;
-            } else if (type.equals(BlockTypes.REDSTONE_ORE)) {
-                otype = GenerateMinable.EventType.REDSTONE;
-            } else if (type.equals(BlockTypes.DIAMOND_ORE)) {
-                otype = GenerateMinable.EventType.DIAMOND;
-            } else if (type.equals(BlockTypes.LAPIS_ORE)) {
-                otype = GenerateMinable.EventType.LAPIS;
-            } else if (type.equals(BlockTypes.QUARTZ_ORE)) {
-                otype = GenerateMinable.EventType.QUARTZ;
-            } else if (type.equals(BlockTypes.EMERALD_ORE)) {
-                otype = GenerateMinable.EventType.EMERALD;
-            } else if (type.equals(BlockTypes.MONSTER_EGG)) {
-                otype = GenerateMinable.EventType.SILVERFISH;
             }
-            return otype == null || TerrainGen
-                    .generateOre((World) chunk.getWorld(), this.rand, (WorldGenerator) populator, VecHelper.toBlockPos(chunk.getBlockMin()), otype);
+
+            populators.addAll(settings.getPopulators());
+            if (snowPopulator != null) {
+                populators.add(snowPopulator);
+            }
+            chain = new PopulatorChain(this.pop, settings, populators, this.resolveForgeEvents(populators, chunk));
+            this.populatorChains.put(biome, chain);
+        }
+        return chain;
+    }
+
+    private ForgePopulatorEvents[] resolveForgeEvents(final List<Populator> populators, final Chunk chunk) {
+        final ForgePopulatorEvents[] events = new ForgePopulatorEvents[populators.size()];
+        for (int i = 0; i < events.length; i++) {
+            final Populator populator = populators.get(i);
+            events[i] = this.resolveForgeEvents(populator, chunk);
+            if (populator instanceof PlainsGrassPopulator) {
+                final PlainsGrassPopulator grassPop = (PlainsGrassPopulator) populator;
+                events[i].flowers = this.resolveForgeEvents(grassPop.getFlowers(), chunk);
+                events[i].grass = this.resolveForgeEvents(grassPop.getGrass(), chunk);
+                events[i].plant = this.resolveForgeEvents(grassPop.getPlant(), chunk);
+            }
+        }
+        return events;
+    }
+
+    private ForgePopulatorEvents resolveForgeEvents(final Populator populator, final Chunk chunk) {
+        if (populator instanceof Ore && populator instanceof WorldGenerator) {
+            return new ForgePopulatorEvents(true, this.getForgeOreEventTypeForPopulator((Ore) populator), null, null);
+        }
+        return new ForgePopulatorEvents(false, null, this.getForgeEventTypeForPopulator(populator, chunk),
+                this.getForgeDecorateEventTypeForPopulator(populator, chunk));
+    }
+
+    private boolean checkForgeEvent(final Populator populator, final ForgePopulatorEvents events, final IChunkGenerator chunkProvider, final int chunkX, final int chunkZ,
+            final List<String> flags, final Chunk chunk) {
+        final TerrainGenListeners listeners = this.listeners;
+        if (events.ore) {
+            return events.oreType == null || !listeners.ore || TerrainGen
+                    .generateOre((World) chunk.getWorld(), this.rand, (WorldGenerator) populator, VecHelper.toBlockPos(chunk.getBlockMin()),
+                            events.oreType);
         }
         boolean populate = true;
         boolean decorate = true;
 
-        final Populate.EventType etype = this.getForgeEventTypeForPopulator(populator, chunk);
-        if (etype != null) {
-            populate = TerrainGen.populate(chunkProvider, (net.minecraft.world.World) chunk.getWorld(), this.rand, chunkX, chunkZ, village_flag,
-                    etype);
+        if (events.populateType != null && listeners.populate) {
+            populate = TerrainGen.populate(chunkProvider, (net.minecraft.world.World) chunk.getWorld(), this.rand, chunkX, chunkZ,
+                    flags.contains(WorldGenConstants.VILLAGE_FLAG), events.populateType);
         }
 
-        final Decorate.EventType detype = this.getForgeDecorateEventTypeForPopulator(populator, chunk);
-        if (detype != null) {
-            decorate = TerrainGen.decorate((World) chunk.getWorld(), this.rand, VecHelper.toBlockPos(chunk.getBlockMin()), detype);
+        if (events.decorateType != null && listeners.decorate) {
+            decorate = TerrainGen.decorate((World) chunk.getWorld(), this.rand, VecHelper.toBlockPos(chunk.getBlockMin()), events.decorateType);
         }
 
         // TODO May need to separate this..
         return populate && decorate;
     }
 
+    @Nullable
+    private GenerateMinable.EventType getForgeOreEventTypeForPopulator(final Ore populator) {
+        final BlockType type = populator.getOreBlock().getType();
+        if (type.equals(BlockTypes.DIRT)) {
+            return GenerateMinable.EventType.DIRT;
+        } else if (type.equals(BlockTypes.GRAVEL)) {
+            return GenerateMinable.EventType.GRAVEL;
+        } else if (type.equals(BlockTypes.STONE)) {
+            final BlockState state = populator.getOreBlock();
+            final Optional<StoneType> stype;
+            if ((stype = state.get(Keys.STONE_TYPE)).isPresent()) {
+                final StoneType stoneType = stype.get();
+                if (stoneType.equals(StoneTypes.DIORITE)) {
+                    return GenerateMinable.EventType.DIORITE;
+                } else if (stoneType.equals(StoneTypes.ANDESITE)) {
+                    return GenerateMinable.EventType.ANDESITE;
+                } else if (stoneType.equals(StoneTypes.GRANITE)) {
+                    return GenerateMinable.EventType.GRANITE;
+                }
+            }
+        } else if (type.equals(BlockTypes.COAL_ORE)) {
+            return GenerateMinable.EventType.COAL;
+        } else if (type.equals(BlockTypes.IRON_ORE)) {
+            return GenerateMinable.EventType.IRON;
+        } else if (type.equals(BlockTypes.GOLD_ORE)) {
+            return GenerateMinable.EventType.GOLD;
+        } else if (type.equals(BlockTypes.REDSTONE_ORE)) {
+            return GenerateMinable.EventType.REDSTONE;
+        } else if (type.equals(BlockTypes.DIAMOND_ORE)) {
+            return GenerateMinable.EventType.DIAMOND;
+        } else if (type.equals(BlockTypes.LAPIS_ORE)) {
+            return GenerateMinable.EventType.LAPIS;
+        } else if (type.equals(BlockTypes.QUARTZ_ORE)) {
+            return GenerateMinable.EventType.QUARTZ;
+        } else if (type.equals(BlockTypes.EMERALD_ORE)) {
+            return GenerateMinable.EventType.EMERALD;
+        } else if (type.equals(BlockTypes.MONSTER_EGG)) {
+            return GenerateMinable.EventType.SILVERFISH;
+        }
+        return null;
+    }
+
+    @Nullable
     private Populate.EventType getForgeEventTypeForPopulator(final Populator populator, final Chunk chunk) {
         if (populator instanceof Lake) {
             if (((Lake) populator).getLiquidType().getType().equals(BlockTypes.LAVA)
@@ -425,6 +501,7 @@ private Populate.EventType getForgeEventTypeForPopulator(final Populator populat
         return null;
     }
 
+    @Nullable
     @SuppressWarnings("rawtypes")
     private Decorate.EventType getForgeDecorateEventTypeForPopulator(final Populator populator, final Chunk chunk) {
         if (populator instanceof SeaFloor) {
@@ -514,4 +591,117 @@ public String toString() {
                 .add("world", this.world)
                 .toString();
     }
+
+    /**
+     * The ordered populators of a biome along with their resolved Forge event
+     * types. The chain is rebuilt whenever the generator or biome populators
+     * it was built from change.
+     */
+    private static final class PopulatorChain {
+
+        private final Populator[] basePopulators;
+        private final BiomeGenerationSettings settings;
+        private final Populator[] biomePopulators;
+        final ImmutableList<Populator> populators;
+        final ForgePopulatorEvents[] forgeEvents;
+
+        PopulatorChain(final List<Populator> basePopulators, final BiomeGenerationSettings settings, final List<Populator> populators,
+                final ForgePopulatorEvents[] forgeEvents) {
+            this.basePopulators = basePopulators.toArray(new Populator[0]);
+            this.settings = settings;
+            this.biomePopulators = settings.getPopulators().toArray(new Populator[0]);
+            this.populators = ImmutableList.copyOf(populators);
+            this.forgeEvents = forgeEvents;
+        }
+
+        boolean isValidFor(final List<Populator> basePopulators, final BiomeGenerationSettings settings) {
+            return this.settings == settings && sameElements(this.basePopulators, basePopulators)
+                    && sameElements(this.biomePopulators, settings.getPopulators());
+        }
+
+        private static boolean sameElements(final Populator[] expected, final List<Populator> actual) {
+            if (expected.length != actual.size()) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (expected[i] != actual.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static boolean sameElements(final List<Populator> expected, final List<Populator> actual) {
+            if (expected.size() != actual.size()) {
+                return false;
+            }
+            for (int i = 0; i < expected.size(); i++) {
+                if (expected.get(i) != actual.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class ForgePopulatorEvents {
+
+        final boolean ore;
+        @Nullable final GenerateMinable.EventType oreType;
+        @Nullable final Populate.EventType populateType;
+        @Nullable final Decorate.EventType decorateType;
+        // Only resolved for the sub populators of a PlainsGrassPopulator
+        @Nullable ForgePopulatorEvents flowers;
+        @Nullable ForgePopulatorEvents grass;
+        @Nullable ForgePopulatorEvents plant;
+
+        ForgePopulatorEvents(final boolean ore, @Nullable final GenerateMinable.EventType oreType, @Nullable final Populate.EventType populateType,
+                @Nullable final Decorate.EventType decorateType) {
+            this.ore = ore;
+            this.oreType = oreType;
+            this.populateType = populateType;
+            this.decorateType = decorateType;
+        }
+    }
+
+    /**
+     * Whether anyone listens for the terrain generation events thrown while
+     * populating, refreshed for every chunk. The buses and the event manager
+     * cache the answers until listeners change, so no event is constructed
+     * when nobody would receive it.
+     */
+    private static final class TerrainGenListeners {
+
+        boolean spongePre;
+        boolean spongePopulate;
+        boolean spongePost;
+        boolean populatePre;
+        boolean populate;
+        boolean populatePost;
+        boolean decoratePre;
+        boolean decorate;
+        boolean decoratePost;
+        boolean orePre;
+        boolean ore;
+        boolean orePost;
+
+        void refresh() {
+            final SpongeModEventManager eventManager = (SpongeModEventManager) Sponge.getEventManager();
+            this.spongePre = !eventManager.getHandlerCache(org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Pre.class).getListeners().isEmpty();
+            this.spongePopulate = !eventManager.getHandlerCache(org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Populate.class).getListeners()
+                    .isEmpty();
+            this.spongePost = !eventManager.getHandlerCache(org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Post.class).getListeners().isEmpty();
+            final EventBusBridge_Forge eventBus = (EventBusBridge_Forge) MinecraftForge.EVENT_BUS;
+            this.populatePre = eventBus.forgeBridge$hasListeners(PopulateChunkEvent.Pre.class);
+            this.populate = eventBus.forgeBridge$hasListeners(PopulateChunkEvent.Populate.class);
+            this.populatePost = eventBus.forgeBridge$hasListeners(PopulateChunkEvent.Post.class);
+            this.decoratePre = eventBus.forgeBridge$hasListeners(DecorateBiomeEvent.Pre.class);
+            this.decorate = eventBus.forgeBridge$hasListeners(DecorateBiomeEvent.Decorate.class);
+            this.decoratePost = eventBus.forgeBridge$hasListeners(DecorateBiomeEvent.Post.class);
+            final EventBusBridge_Forge oreGenBus = (EventBusBridge_Forge) MinecraftForge.ORE_GEN_BUS;
+            this.orePre = oreGenBus.forgeBridge$hasListeners(OreGenEvent.Pre.class);
+            this.ore = oreGenBus.forgeBridge$hasListeners(GenerateMinable.class);
+            this.orePost = oreGenBus.forgeBridge$hasListeners(OreGenEvent.Post.class);
+        }
+    }
 }
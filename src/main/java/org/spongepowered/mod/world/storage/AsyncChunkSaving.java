@@ -0,0 +1,200 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.storage;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * Encodes the section snapshots of saved chunks on a small pool of threads.
+ * The chunk NBT keeps going through the pending chunks of the chunk loader,
+ * which already coalesces repeated saves of the same chunk, and is written
+ * by the chunk I/O thread. Anyone about to read pending chunk NBT, being the
+ * I/O thread before writing it or the chunk loader before loading it, waits
+ * for its snapshots to be encoded, encoding them itself if the pool did not
+ * get to them yet.
+ */
+public final class AsyncChunkSaving {
+
+    private static final int QUEUE_SIZE = 1024;
+
+    // Keyed by identity, entries of chunks superseded by a newer save are dropped with their NBT
+    private static final Map<NBTTagCompound, ChunkSectionSnapshot[]> pending = new MapMaker().weakKeys().makeMap();
+    private static final AtomicInteger queued = new AtomicInteger();
+    private static final AtomicLong snapshotBytes = new AtomicLong();
+    private static final AtomicLong chunksSnapshotted = new AtomicLong();
+    private static final AtomicLong chunksEncodedInline = new AtomicLong();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static final AtomicLong chunksWritten = new AtomicLong();
+
+    @Nullable private static ThreadPoolExecutor executor;
+
+    private AsyncChunkSaving() {
+    }
+
+    public static boolean isEnabled() {
+        return SpongeForgeConfigAdapter.getInstance().getConfig().getChunkSaving().isAsyncSectionEncoding();
+    }
+
+    /**
+     * Schedules the encoding of the snapshots taken while writing the given
+     * chunk NBT.
+     *
+     * @param compound The chunk NBT
+     * @param snapshots The section snapshots
+     */
+    public static void submit(final NBTTagCompound compound, final List<ChunkSectionSnapshot> snapshots) {
+        final ChunkSectionSnapshot[] array = snapshots.toArray(new ChunkSectionSnapshot[0]);
+        for (final ChunkSectionSnapshot snapshot : array) {
+            snapshotBytes.addAndGet(snapshot.getSize());
+        }
+        chunksSnapshotted.incrementAndGet();
+        pending.put(compound, array);
+        queued.incrementAndGet();
+        try {
+            getExecutor().execute(() -> encode(compound));
+        } catch (RejectedExecutionException e) {
+            // Encoded by whoever reads the NBT first
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Encodes the given snapshots right away, used when the chunk NBT is
+     * handed to mods before it is queued.
+     *
+     * @param snapshots The section snapshots
+     */
+    public static void encodeNow(final List<ChunkSectionSnapshot> snapshots) {
+        for (final ChunkSectionSnapshot snapshot : snapshots) {
+            snapshot.encode();
+        }
+        chunksEncodedInline.incrementAndGet();
+    }
+
+    /**
+     * Makes sure the block data of the given chunk NBT is encoded.
+     *
+     * @param compound The chunk NBT
+     */
+    public static void awaitEncoded(@Nullable final NBTTagCompound compound) {
+        if (compound == null) {
+            return;
+        }
+        final ChunkSectionSnapshot[] snapshots = pending.remove(compound);
+        if (snapshots != null) {
+            for (final ChunkSectionSnapshot snapshot : snapshots) {
+                snapshot.encode();
+            }
+        }
+    }
+
+    private static void encode(final NBTTagCompound compound) {
+        try {
+            final ChunkSectionSnapshot[] snapshots = pending.get(compound);
+            if (snapshots != null) {
+                for (final ChunkSectionSnapshot snapshot : snapshots) {
+                    snapshot.encode();
+                }
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every submitted chunk is encoded, encoding the remaining
+     * ones on the calling thread.
+     */
+    public static void flush() {
+        for (final NBTTagCompound compound : pending.keySet()) {
+            awaitEncoded(compound);
+        }
+    }
+
+    public static void recordWrite(final int bytes) {
+        bytesWritten.addAndGet(bytes);
+        chunksWritten.incrementAndGet();
+    }
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        final int threads = Math.max(1, SpongeForgeConfigAdapter.getInstance().getConfig().getChunkSaving().getEncoderThreads());
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE),
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Section Encoder #%d").setDaemon(true).build());
+            executor.allowCoreThreadTimeOut(true);
+        } else if (executor.getMaximumPoolSize() != threads) {
+            if (threads > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(threads);
+                executor.setCorePoolSize(threads);
+            } else {
+                executor.setCorePoolSize(threads);
+                executor.setMaximumPoolSize(threads);
+            }
+        }
+        return executor;
+    }
+
+    public static int getQueueDepth() {
+        return queued.get();
+    }
+
+    public static int getPendingChunks() {
+        return pending.size();
+    }
+
+    public static long getSnapshotBytes() {
+        return snapshotBytes.get();
+    }
+
+    public static long getChunksSnapshotted() {
+        return chunksSnapshotted.get();
+    }
+
+    public static long getChunksEncodedInline() {
+        return chunksEncodedInline.get();
+    }
+
+    public static long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public static long getChunksWritten() {
+        return chunksWritten.get();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.storage;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.BlockStatePaletteRegistry;
+import net.minecraft.world.chunk.IBlockStatePalette;
+import net.minecraft.world.chunk.NibbleArray;
+import org.spongepowered.mod.mixin.core.world.chunk.BlockStateContainerAccessor;
+
+import javax.annotation.Nullable;
+
+/**
+ * A copy of the block data of a chunk section, taken while the chunk is being
+ * saved, which is encoded into the arrays of the section NBT later on. This
+ * produces the same arrays as {@link BlockStateContainer#getDataForNBT}, but
+ * the main thread only copies the packed storage and resolves the ids of the
+ * palette instead of resolving the id of each of the 4096 blocks. Whether the
+ * section needs the upper 4 bits of the block ids is only known once it is
+ * encoded, the "Add" array is then put into the section NBT by the snapshot.
+ */
+public final class ChunkSectionSnapshot {
+
+    private static final int AIR_ID = Block.BLOCK_STATE_IDS.get(Blocks.AIR.getDefaultState());
+
+    private final int bits;
+    private final long[] storage;
+    // The global block state id of each palette entry, null when the storage holds global ids
+    @Nullable private final int[] paletteIds;
+    private final byte[] blockIds;
+    private final NibbleArray data;
+    @Nullable private NibbleArray add;
+    @Nullable private NBTTagCompound section;
+    private boolean encoded;
+
+    private ChunkSectionSnapshot(final int bits, final long[] storage, @Nullable final int[] paletteIds, final byte[] blockIds,
+            final NibbleArray data) {
+        this.bits = bits;
+        this.storage = storage;
+        this.paletteIds = paletteIds;
+        this.blockIds = blockIds;
+        this.data = data;
+    }
+
+    /**
+     * Copies the given container. The given arrays, which are already part of
+     * the section NBT, are filled once the snapshot is encoded.
+     *
+     * @param container The container of the section
+     * @param blockIds The array of the lower 8 bits of the block ids
+     * @param data The array of the block metadata
+     * @return The snapshot
+     */
+    public static ChunkSectionSnapshot of(final BlockStateContainer container, final byte[] blockIds, final NibbleArray data) {
+        final BlockStateContainerAccessor accessor = (BlockStateContainerAccessor) container;
+        final int bits = accessor.forgeAccessor$getBits();
+        final IBlockStatePalette palette = accessor.forgeAccessor$getPalette();
+        int[] paletteIds = null;
+        if (!(palette instanceof BlockStatePaletteRegistry)) {
+            paletteIds = new int[1 << bits];
+            for (int i = 0; i < paletteIds.length; i++) {
+                paletteIds[i] = toId(palette.getBlockState(i));
+            }
+        }
+        return new ChunkSectionSnapshot(bits, accessor.forgeAccessor$getStorage().getBackingLongArray().clone(), paletteIds, blockIds, data);
+    }
+
+    // Same as BlockStateContainer#get, which reads states without an id as air
+    private static int toId(@Nullable final IBlockState state) {
+        return state == null ? AIR_ID : Block.BLOCK_STATE_IDS.get(state);
+    }
+
+    /**
+     * Gets the blocks array the snapshot fills.
+     *
+     * @return The array of the lower 8 bits of the block ids
+     */
+    public byte[] getBlockIds() {
+        return this.blockIds;
+    }
+
+    /**
+     * Sets the section NBT the "Add" array is put into, if encoding finds a
+     * block id needing it.
+     *
+     * @param section The section NBT
+     */
+    public synchronized void setSection(final NBTTagCompound section) {
+        this.section = section;
+    }
+
+    /**
+     * Encodes the snapshot into its arrays, unless that happened already.
+     */
+    public synchronized void encode() {
+        if (this.encoded) {
+            return;
+        }
+        final long mask = (1L << this.bits) - 1L;
+        for (int i = 0; i < 4096; i++) {
+            // Same as BitArray#getAt
+            final int bit = i * this.bits;
+            final int start = bit >> 6;
+            final int end = ((i + 1) * this.bits - 1) >> 6;
+            final int offset = bit & 63;
+            final int value;
+            if (start == end) {
+                value = (int) (this.storage[start] >>> offset & mask);
+            } else {
+                value = (int) ((this.storage[start] >>> offset | this.storage[end] << (64 - offset)) & mask);
+            }
+            final int id = this.paletteIds == null ? toId(Block.BLOCK_STATE_IDS.getByValue(value)) : this.paletteIds[value];
+            final int x = i & 15;
+            final int y = i >> 8 & 15;
+            final int z = i >> 4 & 15;
+            if ((id >> 12 & 15) != 0) {
+                if (this.add == null) {
+                    this.add = new NibbleArray();
+                }
+                this.add.set(x, y, z, id >> 12 & 15);
+            }
+            this.blockIds[i] = (byte) (id >> 4 & 255);
+            this.data.set(x, y, z, id & 15);
+        }
+        if (this.add != null && this.section != null) {
+            this.section.setByteArray("Add", this.add.getData());
+        }
+        this.encoded = true;
+    }
+
+    public int getSize() {
+        return this.storage.length * Long.BYTES;
+    }
+}
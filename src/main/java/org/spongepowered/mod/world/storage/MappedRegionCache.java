@@ -0,0 +1,368 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.storage;
+
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps region files mapped into memory for chunk reads, bounded by the
+ * amount of mapped regions and unmapping the least recently read ones.
+ *
+ * <p>A chunk is inflated straight out of the mapping while the region file is
+ * locked, the same as vanilla reading its bytes, since a save of the same
+ * chunk may overwrite its sectors in place right after. Java 8 inflaters only
+ * take heap arrays, so the compressed bytes pass through a small window per
+ * thread instead of being copied whole for every chunk. The inflated chunk is
+ * buffered on the heap rather than streamed out of the mapping, as it is only
+ * parsed once the region file was unlocked again.</p>
+ *
+ * <p>Evicted mappings are unmapped right away through the JDK internal
+ * cleaner, looked up reflectively so nothing links against it, and otherwise
+ * left to be unmapped when the buffer is garbage collected.</p>
+ */
+public final class MappedRegionCache {
+
+    private static final int SECTOR_BYTES = 4096;
+    private static final int WINDOW_BYTES = 8192;
+
+    private static final LinkedHashMap<Mapping, Boolean> mappings = new LinkedHashMap<>(16, 0.75F, true);
+    private static final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+    private static final ThreadLocal<byte[]> windows = ThreadLocal.withInitial(() -> new byte[WINDOW_BYTES]);
+    private static final AtomicLong mappedBytes = new AtomicLong();
+    private static final AtomicLong reads = new AtomicLong();
+    private static final AtomicLong maps = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+    @Nullable private static final MethodHandle unmapper = findUnmapper();
+
+    private MappedRegionCache() {
+    }
+
+    /**
+     * Finds the handle unmapping a {@link MappedByteBuffer}, taking the buffer
+     * as its only argument.
+     *
+     * @return The handle, or null if this JVM offers none
+     */
+    @Nullable
+    private static MethodHandle findUnmapper() {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            // Java 9 and later
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return lookup.unreflect(invokeCleaner).bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Not available, try the Java 8 cleaner
+        }
+        try {
+            final Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            final Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return MethodHandles.filterReturnValue(lookup.unreflect(cleaner), lookup.unreflect(clean))
+                    .asType(MethodType.methodType(void.class, ByteBuffer.class));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Left to the garbage collector
+        }
+        return null;
+    }
+
+    public static boolean isEnabled() {
+        return SpongeForgeConfigAdapter.getInstance().getConfig().getRegionFiles().isMemoryMapped();
+    }
+
+    /**
+     * Maps the whole given region file, unmapping the least recently read
+     * regions past the configured limit.
+     *
+     * @param file The region file
+     * @return The mapping, already acquired once by the caller
+     * @throws IOException If the file could not be mapped
+     */
+    public static Mapping map(final File file) throws IOException {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        final Mapping mapping = new Mapping(buffer);
+        mapping.acquire();
+        mappedBytes.addAndGet(buffer.capacity());
+        maps.incrementAndGet();
+
+        final int max = Math.max(1, SpongeForgeConfigAdapter.getInstance().getConfig().getRegionFiles().getMaxMappedRegions());
+        final List<Mapping> evicted = new ArrayList<>();
+        synchronized (mappings) {
+            mappings.put(mapping, Boolean.TRUE);
+            final Iterator<Mapping> iterator = mappings.keySet().iterator();
+            while (mappings.size() > max && iterator.hasNext()) {
+                final Mapping eldest = iterator.next();
+                if (eldest != mapping) {
+                    iterator.remove();
+                    evicted.add(eldest);
+                }
+            }
+        }
+        // Unmapped once the last read in progress is done with it
+        for (final Mapping eldest : evicted) {
+            eldest.release();
+            evictions.incrementAndGet();
+        }
+        return mapping;
+    }
+
+    /**
+     * Removes the given mapping from the cache, it is unmapped once no read
+     * uses it anymore.
+     *
+     * @param mapping The mapping
+     */
+    public static void unmap(final Mapping mapping) {
+        final boolean removed;
+        synchronized (mappings) {
+            removed = mappings.remove(mapping) != null;
+        }
+        if (removed) {
+            mapping.release();
+        }
+    }
+
+    /**
+     * Reads the chunk stored at the given sectors of a mapped region file.
+     *
+     * @param mapping The acquired mapping of the region file
+     * @param sectorNumber The first sector of the chunk
+     * @param sectors The amount of sectors of the chunk
+     * @return The inflated chunk data, or null if the stored chunk is invalid
+     * @throws IOException If the chunk data is corrupted
+     */
+    @Nullable
+    public static DataInputStream read(final Mapping mapping, final int sectorNumber, final int sectors) throws IOException {
+        synchronized (mappings) {
+            mappings.get(mapping);
+        }
+        final ByteBuffer data = mapping.buffer.duplicate();
+        data.position(sectorNumber * SECTOR_BYTES);
+        final int length = data.getInt();
+        if (length > SECTOR_BYTES * sectors || length <= 0) {
+            return null;
+        }
+        final byte version = data.get();
+        data.limit(data.position() + length - 1);
+        reads.incrementAndGet();
+        if (version == 1) {
+            return readGzip(data);
+        }
+        if (version == 2) {
+            return inflate(data);
+        }
+        return null;
+    }
+
+    private static DataInputStream inflate(final ByteBuffer data) throws IOException {
+        final Inflater inflater = inflaters.get();
+        final byte[] window = windows.get();
+        inflater.reset();
+        byte[] out = new byte[Math.max(data.remaining() * 4, SECTOR_BYTES)];
+        int size = 0;
+        try {
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (!data.hasRemaining()) {
+                        throw new EOFException("Unexpected end of chunk data");
+                    }
+                    final int read = Math.min(window.length, data.remaining());
+                    data.get(window, 0, read);
+                    inflater.setInput(window, 0, read);
+                }
+                if (size == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                final int inflated = inflater.inflate(out, size, out.length - size);
+                if (inflated == 0 && inflater.needsDictionary()) {
+                    throw new ZipException("Chunk data requires a preset dictionary");
+                }
+                size += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        }
+        return new DataInputStream(new ByteArrayInputStream(out, 0, size));
+    }
+
+    private static DataInputStream readGzip(final ByteBuffer data) throws IOException {
+        // Rarely used by anything but very old worlds, read through the streams vanilla uses
+        final byte[] window = windows.get();
+        byte[] out = new byte[Math.max(data.remaining() * 4, SECTOR_BYTES)];
+        int size = 0;
+        try (InputStream in = new BufferedInputStream(new GZIPInputStream(new BufferInputStream(data)))) {
+            int read;
+            while ((read = in.read(window)) != -1) {
+                if (size + read > out.length) {
+                    out = Arrays.copyOf(out, Math.max(out.length * 2, size + read));
+                }
+                System.arraycopy(window, 0, out, size, read);
+                size += read;
+            }
+        }
+        return new DataInputStream(new ByteArrayInputStream(out, 0, size));
+    }
+
+    public static int getMappedRegions() {
+        synchronized (mappings) {
+            return mappings.size();
+        }
+    }
+
+    public static long getMappedBytes() {
+        return mappedBytes.get();
+    }
+
+    public static long getReads() {
+        return reads.get();
+    }
+
+    public static long getMaps() {
+        return maps.get();
+    }
+
+    public static long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer, without copying them first.
+     */
+    private static final class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            final int read = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+
+    /**
+     * A mapped region file, reference counted so it is only unmapped once it
+     * left the cache and no read still uses it.
+     */
+    public static final class Mapping {
+
+        final MappedByteBuffer buffer;
+        // The cache holds one reference while the mapping is cached
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        Mapping(final MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Acquires the mapping for a read.
+         *
+         * @return False if the mapping was already unmapped
+         */
+        public boolean acquire() {
+            while (true) {
+                final int count = this.references.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (this.references.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        public void release() {
+            if (this.references.decrementAndGet() == 0) {
+                mappedBytes.addAndGet(-this.buffer.capacity());
+                // Unmap right away rather than whenever the buffer is collected
+                if (unmapper != null && this.buffer.capacity() > 0) {
+                    try {
+                        unmapper.invokeExact((ByteBuffer) this.buffer);
+                    } catch (Throwable ignored) {
+                        // Left to the garbage collector
+                    }
+                }
+            }
+        }
+
+        public long getMappedLength() {
+            return this.buffer.capacity();
+        }
+    }
+}
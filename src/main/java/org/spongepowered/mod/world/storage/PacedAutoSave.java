@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.storage;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.mixin.core.world.chunk.ChunkAccessor;
+import org.spongepowered.mod.mixin.core.world.gen.ChunkProviderServerAccessor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Spreads the chunk saves of an auto save over the ticks until the next one.
+ * An auto save of a world only writes its world data and starts a new cycle,
+ * snapshotting the chunks needing a save ordered by the time they were last
+ * saved. Every tick a share of the cycle is saved, sized to finish by the next
+ * auto save. Chunks still queued at the next auto save are saved right before
+ * the world data, so it is written once all chunks of the cycle are.
+ */
+public final class PacedAutoSave {
+
+    // Vanilla auto save interval, used until the interval of a world was measured
+    private static final int DEFAULT_INTERVAL = 900;
+    private static final int HISTORY = 20;
+
+    // Set while the server performs an auto save, as opposed to commands or stopping saving worlds
+    private static boolean autoSaving;
+
+    private final WorldServer world;
+    private Chunk[] queue = new Chunk[0];
+    private int cursor;
+    private boolean skippingChunks;
+    private int cycleStartTick = -1;
+    private int interval = DEFAULT_INTERVAL;
+
+    private final int[] history = new int[HISTORY];
+    private int lastTickSaved;
+    private long totalSaved;
+    private int lastCycleSize;
+    private int lastCycleLeftOver;
+
+    public PacedAutoSave(final WorldServer world) {
+        this.world = world;
+    }
+
+    public static boolean isEnabled() {
+        return SpongeForgeConfigAdapter.getInstance().getConfig().getAutoSave().isPaced();
+    }
+
+    public static void setAutoSaving(final boolean autoSaving) {
+        PacedAutoSave.autoSaving = autoSaving;
+    }
+
+    /**
+     * Called when the world is about to save all of its chunks.
+     *
+     * @param all Whether all chunks are saved
+     */
+    public void onSave(final boolean all) {
+        this.skippingChunks = false;
+        if (!this.canSave()) {
+            // Saving was turned off, vanilla skips the save as well and the cycle waits
+            return;
+        }
+        if (autoSaving && all && isEnabled()) {
+            this.startCycle();
+            this.skippingChunks = true;
+        } else if (all) {
+            // A requested save writes every chunk of the cycle anyway
+            this.queue = new Chunk[0];
+            this.cursor = 0;
+        }
+    }
+
+    /**
+     * Gets whether the chunk provider should skip saving chunks, as they are
+     * saved by the current cycle instead.
+     *
+     * @return True to skip saving chunks
+     */
+    public boolean isSkippingChunks() {
+        return this.skippingChunks;
+    }
+
+    public void onSaved() {
+        this.skippingChunks = false;
+    }
+
+    private void startCycle() {
+        final int tick = this.world.getMinecraftServer().getTickCounter();
+        this.lastCycleLeftOver = this.queue.length - this.cursor;
+        this.lastCycleSize = this.queue.length;
+        this.saveUpTo(this.queue.length);
+        if (this.cycleStartTick >= 0 && tick > this.cycleStartTick) {
+            this.interval = tick - this.cycleStartTick;
+        }
+        this.cycleStartTick = tick;
+
+        final List<Chunk> dirty = new ArrayList<>();
+        for (final Chunk chunk : this.world.getChunkProvider().getLoadedChunks()) {
+            if (chunk.needsSaving(true)) {
+                dirty.add(chunk);
+            }
+        }
+        dirty.sort(Comparator.comparingLong(chunk -> ((ChunkAccessor) chunk).forgeAccessor$getLastSaveTime()));
+        this.queue = dirty.toArray(new Chunk[0]);
+        this.cursor = 0;
+    }
+
+    public void tick() {
+        this.lastTickSaved = 0;
+        final int remaining = this.queue.length - this.cursor;
+        if (remaining > 0 && this.canSave()) {
+            final int tick = this.world.getMinecraftServer().getTickCounter();
+            final int ticksLeft = Math.max(1, this.interval - (tick - this.cycleStartTick));
+            final int max = Math.max(1, SpongeForgeConfigAdapter.getInstance().getConfig().getAutoSave().getMaxChunksPerTick());
+            final int budget = Math.min(max, (remaining + ticksLeft - 1) / ticksLeft);
+            this.lastTickSaved = this.saveUpTo(this.cursor + budget);
+            this.totalSaved += this.lastTickSaved;
+        }
+        System.arraycopy(this.history, 1, this.history, 0, HISTORY - 1);
+        this.history[HISTORY - 1] = this.lastTickSaved;
+    }
+
+    private int saveUpTo(final int end) {
+        final ChunkProviderServer provider = this.world.getChunkProvider();
+        int saved = 0;
+        // Backups rely on /save-off stopping every write to the region files
+        if (!this.canSave()) {
+            return saved;
+        }
+        while (this.cursor < end) {
+            final Chunk chunk = this.queue[this.cursor];
+            this.queue[this.cursor++] = null;
+            // Chunks unloaded since the cycle started were saved when unloading
+            if (provider.loadedChunks.get(ChunkPos.asLong(chunk.x, chunk.z)) == chunk && chunk.needsSaving(true)) {
+                ((ChunkProviderServerAccessor) provider).forgeAccessor$saveChunkData(chunk);
+                chunk.setModified(false);
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    private boolean canSave() {
+        return this.world.getChunkProvider().canSave();
+    }
+
+    public int getQueued() {
+        return this.queue.length - this.cursor;
+    }
+
+    public int getLastTickSaved() {
+        return this.lastTickSaved;
+    }
+
+    /**
+     * Gets the amount of chunks saved by each of the recent ticks, oldest
+     * first.
+     *
+     * @return The chunks saved per tick
+     */
+    public int[] getHistory() {
+        return this.history.clone();
+    }
+
+    public long getTotalSaved() {
+        return this.totalSaved;
+    }
+
+    public int getInterval() {
+        return this.interval;
+    }
+
+    public int getLastCycleSize() {
+        return this.lastCycleSize;
+    }
+
+    public int getLastCycleLeftOver() {
+        return this.lastCycleLeftOver;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.timing;
+
+import java.util.Arrays;
+
+/**
+ * A log-linear histogram of tick durations over a sliding window. Durations
+ * are counted in microseconds into buckets that split every power of two into
+ * 16 linear steps, so any value is reported within about 6% of its real
+ * value. Durations of 2^24 microseconds (about 17 seconds) or longer all go
+ * to a single overflow bucket, no tick takes that long but to report a hang.
+ * The window is a ring of slots that each cover a fixed amount of ticks, a
+ * slot is cleared when the ring wraps around to it again.
+ *
+ * <p>Recording never allocates. Reading is meant for reports and may see a
+ * slot while the server thread is updating it.</p>
+ */
+public final class TickHistogram {
+
+    public static final int TICKS_PER_SLOT = 100;
+    public static final int SLOTS = 60;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >> 1;
+    // The highest regular bucket ends right below 2^(MAX_SHIFT + SUB_BUCKET_BITS)
+    private static final int MAX_SHIFT = 19;
+    private static final int OVERFLOW = SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS;
+    private static final int BUCKETS = OVERFLOW + 1;
+
+    private final long[][] counts = new long[SLOTS][BUCKETS];
+    private final long[] maxima = new long[SLOTS];
+    private final int[] slotIds = new int[SLOTS];
+
+    public TickHistogram() {
+        Arrays.fill(this.slotIds, -1);
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param tick The current server tick
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(final int tick, final long nanos) {
+        final long micros = Math.max(0, nanos / 1000);
+        final int slotId = tick / TICKS_PER_SLOT;
+        final int slot = slotId % SLOTS;
+        final long[] counts = this.counts[slot];
+        if (this.slotIds[slot] != slotId) {
+            Arrays.fill(counts, 0);
+            this.maxima[slot] = 0;
+            this.slotIds[slot] = slotId;
+        }
+        counts[index(micros)]++;
+        if (micros > this.maxima[slot]) {
+            this.maxima[slot] = micros;
+        }
+    }
+
+    /**
+     * Computes the percentiles of the durations recorded within the last
+     * slots.
+     *
+     * @param tick The current server tick
+     * @param slots The amount of slots to include, at most {@link #SLOTS}
+     * @return The percentiles
+     */
+    public Percentiles getPercentiles(final int tick, final int slots) {
+        final int currentSlotId = tick / TICKS_PER_SLOT;
+        long count = 0;
+        long max = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (this.isInWindow(slot, currentSlotId, slots)) {
+                for (final long bucketCount : this.counts[slot]) {
+                    count += bucketCount;
+                }
+                max = Math.max(max, this.maxima[slot]);
+            }
+        }
+        if (count == 0) {
+            return Percentiles.EMPTY;
+        }
+        final long p50Rank = rank(count, 0.50);
+        final long p95Rank = rank(count, 0.95);
+        final long p99Rank = rank(count, 0.99);
+        long p50 = -1;
+        long p95 = -1;
+        long p99 = -1;
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS && p99 < 0; bucket++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (this.isInWindow(slot, currentSlotId, slots)) {
+                    seen += this.counts[slot][bucket];
+                }
+            }
+            final long value = Math.min(max, highestValue(bucket));
+            if (p50 < 0 && seen >= p50Rank) {
+                p50 = value;
+            }
+            if (p95 < 0 && seen >= p95Rank) {
+                p95 = value;
+            }
+            if (p99 < 0 && seen >= p99Rank) {
+                p99 = value;
+            }
+        }
+        return new Percentiles(count, p50, p95, p99, max);
+    }
+
+    private boolean isInWindow(final int slot, final int currentSlotId, final int slots) {
+        final int slotId = this.slotIds[slot];
+        return slotId >= 0 && slotId <= currentSlotId && slotId > currentSlotId - slots;
+    }
+
+    private static long rank(final long count, final double percentile) {
+        return Math.max(1, (long) Math.ceil(count * percentile));
+    }
+
+    static int index(final long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1);
+        if (shift > MAX_SHIFT) {
+            return OVERFLOW;
+        }
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) (micros >>> shift) - HALF_SUB_BUCKETS;
+    }
+
+    static long highestValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        if (index == OVERFLOW) {
+            // Reported as the maximum, which is tracked exactly
+            return Long.MAX_VALUE;
+        }
+        final int offset = index - SUB_BUCKETS;
+        final int shift = offset / HALF_SUB_BUCKETS + 1;
+        final long mantissa = offset % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * The percentiles of a window, in microseconds.
+     */
+    public static final class Percentiles {
+
+        static final Percentiles EMPTY = new Percentiles(0, 0, 0, 0, 0);
+
+        private final long count;
+        private final long p50;
+        private final long p95;
+        private final long p99;
+        private final long max;
+
+        Percentiles(final long count, final long p50, final long p95, final long p99, final long max) {
+            this.count = count;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public long getP50() {
+            return this.p50;
+        }
+
+        public long getP95() {
+            return this.p95;
+        }
+
+        public long getP99() {
+            return this.p99;
+        }
+
+        public long getMax() {
+            return this.max;
+        }
+
+    }
+
+}
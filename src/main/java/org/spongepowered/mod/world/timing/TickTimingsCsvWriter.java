@@ -0,0 +1,152 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.timing;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.bridge.world.WorldServerBridge_Forge;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.TickTimingsCategory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Periodically appends the tick time percentiles of every loaded world to a
+ * CSV file in {@code logs/tick-times}. A new file is started every day and
+ * only the configured amount of files is kept. The rows are built on the
+ * server thread and written by a background thread.
+ */
+public final class TickTimingsCsvWriter {
+
+    private static final String HEADER = "time,world,dimension,phase,count,p50_ms,p95_ms,p99_ms,max_ms";
+    private static final String FILE_PREFIX = "tick-times-";
+    private static final String FILE_SUFFIX = ".csv";
+    // RFC 4180 ends records with CRLF whatever the platform
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int TICKS_PER_SECOND = 20;
+
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Tick Timings Writer")
+            .setDaemon(true)
+            .build());
+
+    private TickTimingsCsvWriter() {
+    }
+
+    /**
+     * Writes a row for every world and phase once the interval has passed.
+     *
+     * @param tick The current server tick
+     */
+    public static void tick(final int tick) {
+        final TickTimingsCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getTickTimings();
+        final int intervalTicks = category.getCsvInterval() * TICKS_PER_SECOND;
+        if (!category.isEnabled() || intervalTicks <= 0 || tick % intervalTicks != 0) {
+            return;
+        }
+        final int slots = Math.min(TickHistogram.SLOTS, Math.max(1, intervalTicks / TickHistogram.TICKS_PER_SLOT));
+        final String time = LocalDateTime.now().withNano(0).toString();
+        final List<String> rows = new ArrayList<>();
+        for (final WorldServer world : WorldManager.getWorlds()) {
+            final WorldTickTimings timings = ((WorldServerBridge_Forge) world).forgeBridge$getTickTimings();
+            for (final WorldTickTimings.Phase phase : WorldTickTimings.Phase.values()) {
+                final TickHistogram.Percentiles percentiles = timings.getPercentiles(phase, slots);
+                rows.add(String.format(Locale.ROOT, "%s,%s,%d,%s,%d,%.3f,%.3f,%.3f,%.3f", time, escape(timings.getWorldName()),
+                        timings.getDimensionId(), escape(phase.getId()), percentiles.getCount(), percentiles.getP50() / 1000.0,
+                        percentiles.getP95() / 1000.0, percentiles.getP99() / 1000.0, percentiles.getMax() / 1000.0));
+            }
+        }
+        final int maxFiles = category.getCsvMaxFiles();
+        writer.execute(() -> write(rows, maxFiles));
+    }
+
+    /**
+     * Quotes the given field as described by RFC 4180 if it contains a comma,
+     * a quote or a line break, doubling its quotes.
+     *
+     * @param field The field to escape
+     * @return The field as written to the file
+     */
+    private static String escape(final String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\r') < 0 && field.indexOf('\n') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    private static void write(final List<String> rows, final int maxFiles) {
+        final Path directory = SpongeImpl.getGameDir().resolve("logs").resolve("tick-times");
+        final Path file = directory.resolve(FILE_PREFIX + LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE) + FILE_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            final boolean created = Files.notExists(file);
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                if (created) {
+                    out.write(HEADER);
+                    out.write(LINE_SEPARATOR);
+                }
+                for (final String row : rows) {
+                    out.write(row);
+                    out.write(LINE_SEPARATOR);
+                }
+            }
+            if (created) {
+                deleteOldFiles(directory, maxFiles);
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Could not write the tick timings to {}", file, e);
+        }
+    }
+
+    private static void deleteOldFiles(final Path directory, final int maxFiles) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        // The dates in the names sort in the same order as the days
+        files.sort(null);
+        for (int index = 0; index < files.size() - Math.max(1, maxFiles); index++) {
+            Files.deleteIfExists(files.get(index));
+        }
+    }
+
+}
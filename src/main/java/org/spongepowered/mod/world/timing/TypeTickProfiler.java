@@ -0,0 +1,366 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.timing;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.TickProfilerCategory;
+import org.spongepowered.mod.util.StaticMixinForgeHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+
+/**
+ * Sums up the time spent ticking entities and tile entities per class and per
+ * chunk. On average one in every {@link TickProfilerCategory#getSampleInterval()}
+ * ticks is timed and counted for the whole interval, which keeps the cost of
+ * the untimed ticks to a counter. The gap between two samples is random, as
+ * entities tick in the same order every tick and a fixed gap would keep
+ * sampling the same ones. Ticks nested in a sampled tick are not sampled on
+ * their own, their time is part of the outer one. Class totals cover the
+ * last minute, chunk totals the current and the previous minute, and at most
+ * a configured amount of chunks is tracked at once.
+ */
+public final class TypeTickProfiler {
+
+    private static final int MAX_DEPTH = 32;
+    private static final int TICKS_PER_SLOT = 100;
+    private static final int SLOTS = 12;
+    private static final int WINDOW_TICKS = TICKS_PER_SLOT * SLOTS;
+
+    private static final long[] starts = new long[MAX_DEPTH];
+    private static final int[] intervals = new int[MAX_DEPTH];
+    private static int depth;
+    private static int untilSample;
+    private static boolean sampling;
+
+    private static final Map<Class<?>, TypeStats> types = new IdentityHashMap<>();
+    private static Long2ObjectOpenHashMap<ChunkStats> chunks = new Long2ObjectOpenHashMap<>();
+    private static Long2ObjectOpenHashMap<ChunkStats> previousChunks = new Long2ObjectOpenHashMap<>();
+    private static int chunkWindow = -1;
+    private static long untrackedNanos;
+
+    private TypeTickProfiler() {
+    }
+
+    /**
+     * Clears the nesting state left behind by a tick that threw, called before
+     * the entities of a world are ticked.
+     */
+    public static void reset() {
+        depth = 0;
+        sampling = false;
+    }
+
+    public static void start() {
+        if (depth >= MAX_DEPTH) {
+            depth++;
+            return;
+        }
+        final TickProfilerCategory category = SpongeForgeConfigAdapter.getInstance().getConfig().getTickProfiler();
+        if (!category.isEnabled() || sampling || --untilSample > 0) {
+            starts[depth++] = 0;
+            return;
+        }
+        final int interval = Math.max(1, category.getSampleInterval());
+        // Averages to the interval, so each sample still stands for that many ticks
+        untilSample = interval == 1 ? 1 : ThreadLocalRandom.current().nextInt(1, 2 * interval);
+        intervals[depth] = interval;
+        sampling = true;
+        starts[depth++] = System.nanoTime();
+    }
+
+    public static void endEntity(final Entity entity) {
+        final long nanos = end();
+        if (nanos > 0) {
+            record(entity.getClass(), false, entity.world, entity.chunkCoordX, entity.chunkCoordZ, nanos);
+        }
+    }
+
+    public static void endTileEntity(final TileEntity tileEntity) {
+        final long nanos = end();
+        if (nanos > 0) {
+            final BlockPos pos = tileEntity.getPos();
+            record(tileEntity.getClass(), true, tileEntity.getWorld(), pos.getX() >> 4, pos.getZ() >> 4, nanos);
+        }
+    }
+
+    private static long end() {
+        if (depth == 0) {
+            return 0;
+        }
+        if (--depth >= MAX_DEPTH || starts[depth] == 0) {
+            return 0;
+        }
+        sampling = false;
+        return Math.max(1, (System.nanoTime() - starts[depth]) * intervals[depth]);
+    }
+
+    private static void record(final Class<?> type, final boolean tileEntity, final World world, final int chunkX, final int chunkZ,
+            final long nanos) {
+        final int tick = SpongeImpl.getServer().getTickCounter();
+        TypeStats stats = types.get(type);
+        if (stats == null) {
+            stats = new TypeStats(type, tileEntity);
+            types.put(type, stats);
+        }
+        stats.add(tick, nanos);
+
+        final int window = tick / WINDOW_TICKS;
+        if (window != chunkWindow) {
+            final Long2ObjectOpenHashMap<ChunkStats> previous = previousChunks;
+            previousChunks = window == chunkWindow + 1 ? chunks : new Long2ObjectOpenHashMap<>();
+            previous.clear();
+            chunks = previous;
+            chunkWindow = window;
+        }
+        final int dimensionId = world.provider.getDimension();
+        final long key = key(dimensionId, chunkX, chunkZ);
+        ChunkStats chunk = chunks.get(key);
+        if (chunk == null) {
+            if (chunks.size() >= SpongeForgeConfigAdapter.getInstance().getConfig().getTickProfiler().getMaxTrackedChunks()) {
+                untrackedNanos += nanos;
+                return;
+            }
+            chunk = new ChunkStats(dimensionId, chunkX, chunkZ);
+            chunks.put(key, chunk);
+        } else if (!chunk.is(dimensionId, chunkX, chunkZ)) {
+            untrackedNanos += nanos;
+            return;
+        }
+        chunk.add(stats, nanos);
+    }
+
+    // Mixes the dimension into the chunk key, a collision is detected by the caller
+    private static long key(final int dimensionId, final int chunkX, final int chunkZ) {
+        return ((long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32) ^ dimensionId * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * Gets the classes ticked within the last minute, most expensive first.
+     *
+     * @return The classes
+     */
+    public static List<TypeStats> getTopTypes() {
+        final int tick = SpongeImpl.getServer().getTickCounter();
+        final List<TypeStats> top = new ArrayList<>();
+        for (final TypeStats stats : types.values()) {
+            stats.reportNanos = stats.getNanos(tick);
+            if (stats.reportNanos > 0) {
+                top.add(stats);
+            }
+        }
+        top.sort((a, b) -> Long.compare(b.reportNanos, a.reportNanos));
+        return top;
+    }
+
+    /**
+     * Gets the amount of ticks covered by {@link #getTopTypes()}.
+     *
+     * @return The amount of ticks
+     */
+    public static int getTypeWindowTicks() {
+        return Math.max(1, Math.min(WINDOW_TICKS, SpongeImpl.getServer().getTickCounter()));
+    }
+
+    /**
+     * Gets the chunks ticked within the current and previous minute, most
+     * expensive first.
+     *
+     * @return The chunks
+     */
+    public static List<ChunkStats> getTopChunks() {
+        final List<ChunkStats> top = new ArrayList<>(chunks.values());
+        for (final ChunkStats previous : previousChunks.values()) {
+            previous.previousNanos = 0;
+            final ChunkStats current = chunks.get(key(previous.dimensionId, previous.x, previous.z));
+            if (current == null || !current.is(previous.dimensionId, previous.x, previous.z)) {
+                top.add(previous);
+            } else {
+                current.previousNanos = previous.nanos;
+            }
+        }
+        top.sort((a, b) -> Long.compare(b.nanos + b.previousNanos, a.nanos + a.previousNanos));
+        return top;
+    }
+
+    /**
+     * Gets the amount of ticks covered by {@link #getTopChunks()}.
+     *
+     * @return The amount of ticks
+     */
+    public static int getChunkWindowTicks() {
+        final int tick = SpongeImpl.getServer().getTickCounter();
+        return Math.max(1, tick % WINDOW_TICKS + (previousChunks.isEmpty() ? 0 : WINDOW_TICKS));
+    }
+
+    public static long getUntrackedNanos() {
+        return untrackedNanos;
+    }
+
+    /**
+     * The time spent ticking a class over the last minute.
+     */
+    public static final class TypeStats {
+
+        private final Class<?> type;
+        private final String modId;
+        private final boolean tileEntity;
+        private final long[] nanos = new long[SLOTS];
+        private final int[] slotIds = new int[SLOTS];
+        long reportNanos;
+
+        TypeStats(final Class<?> type, final boolean tileEntity) {
+            this.type = type;
+            this.modId = StaticMixinForgeHelper.getModIdFromClass(type);
+            this.tileEntity = tileEntity;
+            Arrays.fill(this.slotIds, -1);
+        }
+
+        void add(final int tick, final long nanos) {
+            final int slotId = tick / TICKS_PER_SLOT;
+            final int slot = slotId % SLOTS;
+            if (this.slotIds[slot] != slotId) {
+                this.slotIds[slot] = slotId;
+                this.nanos[slot] = 0;
+            }
+            this.nanos[slot] += nanos;
+        }
+
+        long getNanos(final int tick) {
+            final int currentSlotId = tick / TICKS_PER_SLOT;
+            long total = 0;
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (this.slotIds[slot] > currentSlotId - SLOTS) {
+                    total += this.nanos[slot];
+                }
+            }
+            return total;
+        }
+
+        public Class<?> getType() {
+            return this.type;
+        }
+
+        public String getModId() {
+            return this.modId;
+        }
+
+        public boolean isTileEntity() {
+            return this.tileEntity;
+        }
+
+        /**
+         * Gets the time spent as of the last call to {@link #getTopTypes()}.
+         *
+         * @return The time in nanoseconds
+         */
+        public long getReportNanos() {
+            return this.reportNanos;
+        }
+    }
+
+    /**
+     * The time spent ticking the entities and tile entities of a chunk over
+     * the current minute, and the class that took the most of it.
+     */
+    public static final class ChunkStats {
+
+        private final int dimensionId;
+        private final int x;
+        private final int z;
+        long nanos;
+        long previousNanos;
+        private final Map<TypeStats, long[]> perType = new IdentityHashMap<>();
+        @Nullable private TypeStats topType;
+        private long topTypeNanos;
+
+        ChunkStats(final int dimensionId, final int x, final int z) {
+            this.dimensionId = dimensionId;
+            this.x = x;
+            this.z = z;
+        }
+
+        boolean is(final int dimensionId, final int x, final int z) {
+            return this.dimensionId == dimensionId && this.x == x && this.z == z;
+        }
+
+        void add(final TypeStats type, final long nanos) {
+            this.nanos += nanos;
+            long[] total = this.perType.get(type);
+            if (total == null) {
+                total = new long[1];
+                this.perType.put(type, total);
+            }
+            total[0] += nanos;
+            if (total[0] > this.topTypeNanos) {
+                this.topType = type;
+                this.topTypeNanos = total[0];
+            }
+        }
+
+        public int getDimensionId() {
+            return this.dimensionId;
+        }
+
+        public int getX() {
+            return this.x;
+        }
+
+        public int getZ() {
+            return this.z;
+        }
+
+        /**
+         * Gets the time spent over the current and previous minute.
+         *
+         * @return The time in nanoseconds
+         */
+        public long getNanos() {
+            return this.nanos + this.previousNanos;
+        }
+
+        @Nullable
+        public TypeStats getTopType() {
+            return this.topType;
+        }
+
+        public long getTopTypeNanos() {
+            return this.topTypeNanos;
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.timing;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.TickTimingsCategory;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Records how long the phases of each tick of a world take. Entities and
+ * tile entities are both ticked by {@link WorldServer#updateEntities()}, the
+ * tile entity part is measured separately and taken out of the entity time.
+ */
+public final class WorldTickTimings implements WorldTickTimingsMXBean {
+
+    public static final int ONE_MINUTE = 12;
+    public static final int FIVE_MINUTES = TickHistogram.SLOTS;
+
+    public enum Phase {
+        WORLD("world"),
+        ENTITIES("entities"),
+        TILE_ENTITIES("tile-entities"),
+        CHUNK_GC("chunk-gc"),
+        POPULATION("population");
+
+        private final String id;
+
+        Phase(final String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return this.id;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final String worldName;
+    private final int dimensionId;
+    // Created on the first duration recorded for their phase
+    private final TickHistogram[] histograms = new TickHistogram[PHASES.length];
+    private long entitiesStart;
+    private long tileEntitiesStart;
+    private long tileEntitiesTime;
+    @Nullable private ObjectName objectName;
+
+    public WorldTickTimings(final WorldServer world) {
+        this.worldName = world.getWorldInfo().getWorldName();
+        this.dimensionId = world.provider.getDimension();
+        if (getCategory().isEnabled() && getCategory().isJmx()) {
+            this.register();
+        }
+    }
+
+    private static TickTimingsCategory getCategory() {
+        return SpongeForgeConfigAdapter.getInstance().getConfig().getTickTimings();
+    }
+
+    private static int getTick() {
+        return SpongeImpl.getServer().getTickCounter();
+    }
+
+    private void record(final Phase phase, final int tick, final long nanos) {
+        TickHistogram histogram = this.histograms[phase.ordinal()];
+        if (histogram == null) {
+            histogram = new TickHistogram();
+            this.histograms[phase.ordinal()] = histogram;
+        }
+        histogram.record(tick, nanos);
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @return The start time to pass to {@link #stop(Phase, long)}, or 0 if
+     *     timings are disabled
+     */
+    public long start() {
+        return getCategory().isEnabled() ? System.nanoTime() : 0;
+    }
+
+    public void stop(final Phase phase, final long start) {
+        if (start != 0) {
+            this.record(phase, getTick(), System.nanoTime() - start);
+        }
+    }
+
+    public void recordWorldTick(final long nanos) {
+        if (getCategory().isEnabled()) {
+            this.record(Phase.WORLD, getTick(), nanos);
+        }
+    }
+
+    public void startEntities() {
+        this.entitiesStart = this.start();
+        this.tileEntitiesTime = 0;
+    }
+
+    public void startTileEntities() {
+        if (this.entitiesStart != 0) {
+            this.tileEntitiesStart = System.nanoTime();
+        }
+    }
+
+    public void stopTileEntities() {
+        if (this.tileEntitiesStart != 0) {
+            this.tileEntitiesTime += System.nanoTime() - this.tileEntitiesStart;
+            this.tileEntitiesStart = 0;
+        }
+    }
+
+    public void stopEntities() {
+        if (this.entitiesStart == 0) {
+            return;
+        }
+        final int tick = getTick();
+        final long total = System.nanoTime() - this.entitiesStart;
+        this.record(Phase.TILE_ENTITIES, tick, this.tileEntitiesTime);
+        this.record(Phase.ENTITIES, tick, total - this.tileEntitiesTime);
+        this.entitiesStart = 0;
+    }
+
+    public TickHistogram.Percentiles getPercentiles(final Phase phase, final int slots) {
+        final TickHistogram histogram = this.histograms[phase.ordinal()];
+        return histogram == null ? TickHistogram.Percentiles.EMPTY : histogram.getPercentiles(getTick(), slots);
+    }
+
+    @Override
+    public String getWorldName() {
+        return this.worldName;
+    }
+
+    @Override
+    public int getDimensionId() {
+        return this.dimensionId;
+    }
+
+    @Override
+    public Map<String, Double> getOneMinutePercentiles() {
+        return this.toMillisMap(ONE_MINUTE);
+    }
+
+    @Override
+    public Map<String, Double> getFiveMinutePercentiles() {
+        return this.toMillisMap(FIVE_MINUTES);
+    }
+
+    private Map<String, Double> toMillisMap(final int slots) {
+        final Map<String, Double> map = new LinkedHashMap<>();
+        for (final Phase phase : PHASES) {
+            final TickHistogram.Percentiles percentiles = this.getPercentiles(phase, slots);
+            map.put(phase.getId() + ".p50", percentiles.getP50() / 1000.0);
+            map.put(phase.getId() + ".p95", percentiles.getP95() / 1000.0);
+            map.put(phase.getId() + ".p99", percentiles.getP99() / 1000.0);
+            map.put(phase.getId() + ".max", percentiles.getMax() / 1000.0);
+        }
+        return map;
+    }
+
+    private void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName("org.spongepowered.mod:type=WorldTickTimings,world=" + ObjectName.quote(this.worldName));
+            try {
+                server.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException e) {
+                // A previous instance of the world was not unregistered
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+            this.objectName = name;
+        } catch (JMException e) {
+            SpongeImpl.getLogger().warn("Could not register the tick timings of world {} over JMX", this.worldName, e);
+        }
+    }
+
+    /**
+     * Unregisters the JMX bean of the world, called when it unloads.
+     */
+    public void unregister() {
+        if (this.objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+        } catch (JMException e) {
+            SpongeImpl.getLogger().debug("Could not unregister the tick timings of world {}", this.worldName, e);
+        }
+        this.objectName = null;
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.test;
+
+import com.mojang.authlib.GameProfile;
+import mcp.MethodsReturnNonnullByDefault;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.passive.EntityPig;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.EntityActivationCategory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Compares activating entities against every player in turn with the spatial
+ * grid. {@code /activation-bench <entities> <players> <iterations>} spawns the
+ * given amount of pigs and fake players around the sender, times the
+ * activation of the sender's world both ways, and removes them again. The
+ * entity activation range module must be enabled in the global config.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+@Mod(modid = ActivationRangeBenchmarkTestMod.MOD_ID, name = "Activation Range Benchmark", acceptableRemoteVersions = "*")
+public class ActivationRangeBenchmarkTestMod {
+
+    public static final String MOD_ID = "activation-bench";
+
+    // Stays within the chunks loaded around the sender with the default view distance
+    private static final int SPREAD = 128;
+
+    @Mod.EventHandler
+    public void onStart(FMLServerStartingEvent event) {
+        event.registerServerCommand(new CommandBase() {
+            @Override
+            public String getName() {
+                return "activation-bench";
+            }
+
+            @Override
+            public String getUsage(ICommandSender sender) {
+                return "/activation-bench <entities> <players> <iterations>";
+            }
+
+            @Override
+            public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+                if (args.length < 3) {
+                    throw new WrongUsageException(getUsage(sender));
+                }
+                run((WorldServer) sender.getEntityWorld(), sender, parseInt(args[0], 0, 1000000), parseInt(args[1], 0, 1000),
+                        parseInt(args[2], 1, 100000));
+            }
+        });
+    }
+
+    private void run(WorldServer world, ICommandSender sender, int entityCount, int playerCount, int iterations) {
+        final Random random = new Random(0);
+        final BlockPos center = sender.getPosition();
+        final List<Entity> entities = new ArrayList<>();
+        final List<FakePlayer> players = new ArrayList<>();
+        final EntityActivationCategory config = SpongeForgeConfigAdapter.getInstance().getConfig().getEntityActivation();
+        final boolean previous = config.isSpatialGrid();
+        try {
+            for (int i = 0; i < entityCount; i++) {
+                final EntityPig pig = new EntityPig(world);
+                pig.setNoAI(true);
+                pig.setPosition(center.getX() + random.nextInt(SPREAD * 2) - SPREAD, center.getY(), center.getZ() + random.nextInt(SPREAD * 2) - SPREAD);
+                if (world.spawnEntity(pig)) {
+                    entities.add(pig);
+                }
+            }
+            for (int i = 0; i < playerCount; i++) {
+                final FakePlayer player = FakePlayerFactory.get(world, new GameProfile(new UUID(MOD_ID.hashCode(), i), "[" + MOD_ID + "-" + i + "]"));
+                player.setPosition(center.getX() + random.nextInt(SPREAD * 2) - SPREAD, center.getY(), center.getZ() + random.nextInt(SPREAD * 2) - SPREAD);
+                // Fake players are never added to the world, only the list matters for activation
+                world.playerEntities.add(player);
+                players.add(player);
+            }
+
+            sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "Spawned %d entities, %d players in the world",
+                    entities.size(), world.playerEntities.size())));
+            config.setSpatialGrid(false);
+            measure(world, entities, iterations);
+            report(sender, "Per player", measure(world, entities, iterations));
+            config.setSpatialGrid(true);
+            measure(world, entities, iterations);
+            report(sender, "Spatial grid", measure(world, entities, iterations));
+        } finally {
+            config.setSpatialGrid(previous);
+            world.playerEntities.removeAll(players);
+            for (Entity entity : entities) {
+                world.removeEntity(entity);
+            }
+        }
+    }
+
+    private static long[] measure(WorldServer world, List<Entity> entities, int iterations) {
+        long elapsed = 0;
+        long active = 0;
+        for (int i = 0; i < iterations; i++) {
+            // Entities already activated this tick are skipped, start every iteration from scratch
+            for (Entity entity : entities) {
+                ((ActivationCapability) entity).activation$setActivatedTick(Long.MIN_VALUE);
+            }
+            final long start = System.nanoTime();
+            EntityActivationRange.activateEntities(world);
+            elapsed += System.nanoTime() - start;
+            for (Entity entity : entities) {
+                if (((ActivationCapability) entity).activation$getActivatedTick() != Long.MIN_VALUE) {
+                    active++;
+                }
+            }
+        }
+        return new long[] {elapsed / iterations, active / iterations};
+    }
+
+    private static void report(ICommandSender sender, String name, long[] result) {
+        sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "%s: %.3fms per activation, %d entities active",
+                name, result[0] / 1.0E6D, result[1])));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.test;
+
+import mcp.MethodsReturnNonnullByDefault;
+import net.minecraft.block.BlockHopper;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.init.Blocks;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.tileentity.TileEntityHopper;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.HopperTransferCategory;
+import org.spongepowered.mod.item.inventory.HopperTransfers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Compares hopper transfers with and without the hopper transfer fast path
+ * and batched post events. {@code /hopper-bench <chains> <length> <ticks>}
+ * builds the given amount of vertical hopper chains above the sender, each
+ * between two chests, with only every other top chest filled so half of the
+ * chains have nothing to transfer. It then ticks the hoppers for the given
+ * amount of ticks in each mode, advancing the world time so remembered
+ * inventory states expire as they would on a live server, and removes the
+ * chains and restores the world time again.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+@Mod(modid = HopperBenchmarkTestMod.MOD_ID, name = "Hopper Benchmark", acceptableRemoteVersions = "*")
+public class HopperBenchmarkTestMod {
+
+    public static final String MOD_ID = "hopper-bench";
+
+    // Stays within the chunks loaded around the sender with the default view distance
+    private static final int CHAINS_PER_ROW = 32;
+
+    @Mod.EventHandler
+    public void onStart(FMLServerStartingEvent event) {
+        event.registerServerCommand(new CommandBase() {
+            @Override
+            public String getName() {
+                return "hopper-bench";
+            }
+
+            @Override
+            public String getUsage(ICommandSender sender) {
+                return "/hopper-bench <chains> <length> <ticks>";
+            }
+
+            @Override
+            public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+                if (args.length < 3) {
+                    throw new WrongUsageException(getUsage(sender));
+                }
+                final int length = parseInt(args[1], 1, 64);
+                final BlockPos base = sender.getPosition().up(2);
+                if (base.getY() + length + 1 >= 256) {
+                    throw new CommandException("The chains don't fit above you, move down");
+                }
+                run((WorldServer) sender.getEntityWorld(), sender, base, parseInt(args[0], 1, CHAINS_PER_ROW * CHAINS_PER_ROW), length,
+                        parseInt(args[2], 1, 100000));
+            }
+        });
+    }
+
+    private void run(WorldServer world, ICommandSender sender, BlockPos base, int chainCount, int length, int ticks) {
+        final HopperTransferCategory config = SpongeForgeConfigAdapter.getInstance().getConfig().getHopperTransfers();
+        final boolean previousFastPath = config.isFastPath();
+        final boolean previousBatching = config.isBatchPostEvents();
+        final List<BlockPos> positions = new ArrayList<>();
+        final List<TileEntityHopper> hoppers = new ArrayList<>();
+        final List<TileEntityChest> sources = new ArrayList<>();
+        final List<IInventory> inventories = new ArrayList<>();
+        final long worldTime = world.getTotalWorldTime();
+        try {
+            for (int c = 0; c < chainCount; c++) {
+                final BlockPos bottom = base.add(c % CHAINS_PER_ROW * 2, 0, c / CHAINS_PER_ROW * 2);
+                world.setBlockState(bottom, Blocks.CHEST.getDefaultState(), 2);
+                positions.add(bottom);
+                inventories.add((IInventory) world.getTileEntity(bottom));
+                for (int y = 1; y <= length; y++) {
+                    final BlockPos pos = bottom.up(y);
+                    world.setBlockState(pos, Blocks.HOPPER.getDefaultState().withProperty(BlockHopper.FACING, EnumFacing.DOWN), 2);
+                    positions.add(pos);
+                    final TileEntity hopper = world.getTileEntity(pos);
+                    hoppers.add((TileEntityHopper) hopper);
+                    inventories.add((IInventory) hopper);
+                }
+                final BlockPos top = bottom.up(length + 1);
+                world.setBlockState(top, Blocks.CHEST.getDefaultState(), 2);
+                positions.add(top);
+                final TileEntityChest source = (TileEntityChest) world.getTileEntity(top);
+                inventories.add(source);
+                if (c % 2 == 0) {
+                    sources.add(source);
+                }
+            }
+            sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "Built %d chains of %d hoppers", chainCount, length)));
+
+            config.setFastPath(false);
+            config.setBatchPostEvents(false);
+            measure(world, hoppers, sources, inventories, ticks);
+            report(sender, "Baseline", measure(world, hoppers, sources, inventories, ticks), hoppers.size());
+            config.setFastPath(true);
+            measure(world, hoppers, sources, inventories, ticks);
+            report(sender, "Fast path", measure(world, hoppers, sources, inventories, ticks), hoppers.size());
+            config.setBatchPostEvents(true);
+            measure(world, hoppers, sources, inventories, ticks);
+            report(sender, "Fast path and batched post events", measure(world, hoppers, sources, inventories, ticks), hoppers.size());
+        } finally {
+            config.setFastPath(previousFastPath);
+            config.setBatchPostEvents(previousBatching);
+            world.setTotalWorldTime(worldTime);
+            // Empty the inventories first so nothing is dropped
+            for (IInventory inventory : inventories) {
+                inventory.clear();
+            }
+            for (BlockPos pos : positions) {
+                world.setBlockToAir(pos);
+            }
+        }
+    }
+
+    private static long[] measure(WorldServer world, List<TileEntityHopper> hoppers, List<TileEntityChest> sources, List<IInventory> inventories, int ticks) {
+        for (IInventory inventory : inventories) {
+            inventory.clear();
+            // Also forgets what the previous run found out about the inventory
+            inventory.markDirty();
+        }
+        for (TileEntityChest source : sources) {
+            for (int i = 0; i < source.getSizeInventory(); i++) {
+                source.setInventorySlotContents(i, new ItemStack(Blocks.COBBLESTONE, 64));
+            }
+        }
+        for (TileEntityHopper hopper : hoppers) {
+            hopper.setTransferCooldown(0);
+        }
+        final long start = System.nanoTime();
+        for (int tick = 0; tick < ticks; tick++) {
+            for (TileEntityHopper hopper : hoppers) {
+                hopper.update();
+            }
+            HopperTransfers.firePendingPosts();
+            // Hoppers tick against the world time, which also expires remembered inventory states
+            world.setTotalWorldTime(world.getTotalWorldTime() + 1);
+        }
+        final long elapsed = System.nanoTime() - start;
+        long moved = 0;
+        for (IInventory inventory : inventories) {
+            if (inventory instanceof TileEntityChest && !sources.contains(inventory)) {
+                for (int i = 0; i < inventory.getSizeInventory(); i++) {
+                    moved += inventory.getStackInSlot(i).getCount();
+                }
+            }
+        }
+        return new long[] {elapsed / ticks, moved};
+    }
+
+    private static void report(ICommandSender sender, String name, long[] result, int hopperCount) {
+        sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "%s: %.3fms per tick, %.1fns per hopper, %d items moved",
+                name, result[0] / 1.0E6D, result[0] / (double) hopperCount, result[1])));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.test;
+
+import mcp.MethodsReturnNonnullByDefault;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import org.spongepowered.mod.config.SpongeForgeConfigAdapter;
+import org.spongepowered.mod.config.category.RegionFileCategory;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Measures chunk load throughput of region files.
+ * {@code /region-bench <file|mapped> [region folder]} reads and parses every
+ * chunk of every region file in the given folder, the sender's world region
+ * folder by default, twice: once cold and once warm. The first pass only reads
+ * cold data if the OS page cache was dropped before the command was run, such
+ * as with {@code sync; echo 3 > /proc/sys/vm/drop_caches} on Linux, so run
+ * each backend against a large copy of a world, dropping the cache in between.
+ * Region files are opened the same way the server opens them, don't point the
+ * command at the folder of a world that is being saved to.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+@Mod(modid = RegionFileBenchmarkTestMod.MOD_ID, name = "Region File Benchmark", acceptableRemoteVersions = "*")
+public class RegionFileBenchmarkTestMod {
+
+    public static final String MOD_ID = "region-bench";
+
+    @Mod.EventHandler
+    public void onStart(FMLServerStartingEvent event) {
+        event.registerServerCommand(new CommandBase() {
+            @Override
+            public String getName() {
+                return "region-bench";
+            }
+
+            @Override
+            public String getUsage(ICommandSender sender) {
+                return "/region-bench <file|mapped> [region folder]";
+            }
+
+            @Override
+            public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+                if (args.length < 1 || !args[0].equals("file") && !args[0].equals("mapped")) {
+                    throw new WrongUsageException(getUsage(sender));
+                }
+                final File folder = args.length > 1
+                        ? new File(args[1])
+                        : new File(((WorldServer) sender.getEntityWorld()).getChunkSaveLocation(), "region");
+                final File[] files = folder.listFiles((dir, name) -> name.endsWith(".mca"));
+                if (files == null || files.length == 0) {
+                    throw new CommandException("No region files found in " + folder);
+                }
+                final boolean mapped = args[0].equals("mapped");
+                // Reading gigabytes of chunks takes a while, don't stall the server meanwhile
+                final Thread thread = new Thread(() -> run(server, sender, files, mapped), "Region File Benchmark");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        });
+    }
+
+    private static void run(MinecraftServer server, ICommandSender sender, File[] files, boolean mapped) {
+        final RegionFileCategory config = SpongeForgeConfigAdapter.getInstance().getConfig().getRegionFiles();
+        final boolean previous = config.isMemoryMapped();
+        config.setMemoryMapped(mapped);
+        try {
+            report(server, sender, (mapped ? "Memory mapped" : "RandomAccessFile") + ", cold", measure(files));
+            report(server, sender, (mapped ? "Memory mapped" : "RandomAccessFile") + ", warm", measure(files));
+        } catch (IOException e) {
+            server.addScheduledTask(() -> sender.sendMessage(new TextComponentString("Failed to read region files: " + e)));
+        } finally {
+            config.setMemoryMapped(previous);
+        }
+    }
+
+    private static long[] measure(File[] files) throws IOException {
+        long chunks = 0;
+        long bytes = 0;
+        final long start = System.nanoTime();
+        for (File file : files) {
+            final RegionFile region = new RegionFile(file);
+            try {
+                for (int z = 0; z < 32; z++) {
+                    for (int x = 0; x < 32; x++) {
+                        final DataInputStream in = region.getChunkDataInputStream(x, z);
+                        if (in != null) {
+                            CompressedStreamTools.read(in);
+                            in.close();
+                            chunks++;
+                        }
+                    }
+                }
+            } finally {
+                region.close();
+            }
+            bytes += file.length();
+        }
+        return new long[] {System.nanoTime() - start, chunks, bytes};
+    }
+
+    private static void report(MinecraftServer server, ICommandSender sender, String name, long[] result) {
+        final double seconds = result[0] / 1.0E9D;
+        final String message = String.format(Locale.ROOT, "%s: %d chunks in %.2fs, %.0f chunks/s, %.1fMB/s of region files",
+                name, result[1], seconds, result[1] / seconds, result[2] / 1048576.0D / seconds);
+        server.addScheduledTask(() -> sender.sendMessage(new TextComponentString(message)));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.test;
+
+import com.sun.management.ThreadMXBean;
+import mcp.MethodsReturnNonnullByDefault;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.ForgeChunkManager;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.event.FMLInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import org.spongepowered.common.SpongeImplHooks;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Compares iterating the ticking chunks of a world through Forge's persistent
+ * chunk iterable with the iterator used for random ticks.
+ * {@code /ticking-chunks-bench <forced> <iterations>} force loads the given
+ * amount of chunks in the sender's world and reports the time and memory
+ * allocated per iteration of both. The amount of chunks forced is bounded by
+ * the ticket limits in {@code config/forgeChunkLoading.cfg}, raise
+ * {@code maximumTicketCount} and {@code maximumChunksPerTicket} for this mod
+ * to force 10000 chunks.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+@Mod(modid = TickingChunkBenchmarkTestMod.MOD_ID, name = "Ticking Chunk Benchmark", acceptableRemoteVersions = "*")
+public class TickingChunkBenchmarkTestMod {
+
+    public static final String MOD_ID = "ticking-chunks-bench";
+
+    // Far away from spawn so forced chunks don't overlap with chunks watched by players
+    private static final int AREA_OFFSET = 100000;
+
+    @Mod.EventHandler
+    public void onInit(FMLInitializationEvent event) {
+        // Tickets are released at the end of each run, nothing to restore
+        ForgeChunkManager.setForcedChunkLoadingCallback(this, (tickets, world) -> { });
+    }
+
+    @Mod.EventHandler
+    public void onStart(FMLServerStartingEvent event) {
+        event.registerServerCommand(new CommandBase() {
+            @Override
+            public String getName() {
+                return "ticking-chunks-bench";
+            }
+
+            @Override
+            public String getUsage(ICommandSender sender) {
+                return "/ticking-chunks-bench <forced> <iterations>";
+            }
+
+            @Override
+            public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+                if (args.length < 2) {
+                    throw new WrongUsageException(getUsage(sender));
+                }
+                run((WorldServer) sender.getEntityWorld(), sender, parseInt(args[0], 0, 100000), parseInt(args[1], 1, 100000));
+            }
+        });
+    }
+
+    private void run(WorldServer world, ICommandSender sender, int count, int iterations) {
+        final List<ForgeChunkManager.Ticket> tickets = new ArrayList<>();
+        int forced = 0;
+        try {
+            final int side = (int) Math.ceil(Math.sqrt(count));
+            ForgeChunkManager.Ticket ticket = null;
+            while (forced < count) {
+                if (ticket == null || ticket.getChunkList().size() >= ticket.getChunkListDepth()) {
+                    ticket = ForgeChunkManager.requestTicket(this, world, ForgeChunkManager.Type.NORMAL);
+                    if (ticket == null) {
+                        break;
+                    }
+                    ticket.setChunkListDepth(ticket.getMaxChunkListDepth());
+                    tickets.add(ticket);
+                }
+                ForgeChunkManager.forceChunk(ticket, new ChunkPos(AREA_OFFSET + forced % side, AREA_OFFSET + forced / side));
+                forced++;
+            }
+
+            final Supplier<Iterator<Chunk>> forge = () -> world.getPersistentChunkIterable(world.getPlayerChunkMap().getChunkIterator());
+            final Supplier<Iterator<Chunk>> sponge = () -> SpongeImplHooks.getChunkIterator(world);
+            // Loads the forced chunks and warms up both paths
+            measure(forge, iterations);
+            measure(sponge, iterations);
+
+            sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "Forced %d chunks", forced)));
+            report(sender, "Forge persistent chunk iterable", measure(forge, iterations));
+            report(sender, "Ticking chunk iterator", measure(sponge, iterations));
+        } finally {
+            for (ForgeChunkManager.Ticket ticket : tickets) {
+                ForgeChunkManager.releaseTicket(ticket);
+            }
+        }
+    }
+
+    private static long[] measure(Supplier<Iterator<Chunk>> iterable, int iterations) {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        long chunks = 0;
+        final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            final Iterator<Chunk> iterator = iterable.get();
+            while (iterator.hasNext()) {
+                iterator.next();
+                chunks++;
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new long[] {elapsed / iterations, allocated / iterations, chunks / iterations};
+    }
+
+    private static void report(ICommandSender sender, String name, long[] result) {
+        sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "%s: %d chunks, %.3fms and %d bytes allocated per iteration",
+                name, result[2], result[0] / 1.0E6D, result[1])));
+    }
+}
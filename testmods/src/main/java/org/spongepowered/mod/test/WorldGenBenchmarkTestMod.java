@@ -0,0 +1,154 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.test;
+
+import mcp.MethodsReturnNonnullByDefault;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.terraingen.ChunkGeneratorEvent;
+import net.minecraftforge.event.terraingen.DecorateBiomeEvent;
+import net.minecraftforge.event.terraingen.OreGenEvent;
+import net.minecraftforge.event.terraingen.PopulateChunkEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.Locale;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Measures world generation throughput. {@code /worldgen-bench <radius> [listeners]}
+ * generates and populates a square of never visited chunks in the sender's world
+ * and reports chunks per second. Passing {@code listeners} registers no-op
+ * terrain generation listeners for the run, forcing every terrain generation
+ * event to be constructed and posted, so the two runs can be compared.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+@Mod(modid = WorldGenBenchmarkTestMod.MOD_ID, name = "World Generation Benchmark", acceptableRemoteVersions = "*")
+public class WorldGenBenchmarkTestMod {
+
+    public static final String MOD_ID = "worldgen-bench";
+
+    // Each run starts in a fresh area far away from spawn so no chunk is loaded from disk
+    private static final int AREA_OFFSET = 200000;
+    private int runs;
+
+    @Mod.EventHandler
+    public void onStart(FMLServerStartingEvent event) {
+        event.registerServerCommand(new CommandBase() {
+            @Override
+            public String getName() {
+                return "worldgen-bench";
+            }
+
+            @Override
+            public String getUsage(ICommandSender sender) {
+                return "/worldgen-bench <radius> [listeners]";
+            }
+
+            @Override
+            public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+                if (args.length < 1) {
+                    throw new WrongUsageException(getUsage(sender));
+                }
+                final int radius = parseInt(args[0], 1, 64);
+                final boolean listeners = args.length > 1 && args[1].equalsIgnoreCase("listeners");
+                run((WorldServer) sender.getEntityWorld(), sender, radius, listeners);
+            }
+        });
+    }
+
+    private void run(WorldServer world, ICommandSender sender, int radius, boolean listeners) {
+        final NoOpTerrainGenListener listener = new NoOpTerrainGenListener();
+        if (listeners) {
+            MinecraftForge.EVENT_BUS.register(listener);
+            MinecraftForge.ORE_GEN_BUS.register(listener);
+        }
+        final ChunkProviderServer chunkProvider = world.getChunkProvider();
+        final int originX = AREA_OFFSET + this.runs++ * (radius * 2 + 8);
+        final int originZ = AREA_OFFSET;
+        int populated = 0;
+        final long start = System.nanoTime();
+        try {
+            // Generate one extra ring so every chunk of the measured square gets populated
+            for (int x = -radius; x <= radius + 1; x++) {
+                for (int z = -radius; z <= radius + 1; z++) {
+                    chunkProvider.provideChunk(originX + x, originZ + z);
+                }
+            }
+        } finally {
+            if (listeners) {
+                MinecraftForge.EVENT_BUS.unregister(listener);
+                MinecraftForge.ORE_GEN_BUS.unregister(listener);
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+        for (int x = -radius; x <= radius + 1; x++) {
+            for (int z = -radius; z <= radius + 1; z++) {
+                final Chunk chunk = chunkProvider.getLoadedChunk(originX + x, originZ + z);
+                if (chunk != null) {
+                    if (chunk.isTerrainPopulated()) {
+                        populated++;
+                    }
+                    chunkProvider.queueUnload(chunk);
+                }
+            }
+        }
+        final int generated = (radius * 2 + 2) * (radius * 2 + 2);
+        final double seconds = elapsed / 1.0E9D;
+        sender.sendMessage(new TextComponentString(String.format(Locale.ROOT,
+                "%s listeners: generated %d chunks (%d populated) in %.2fs, %.1f chunks/s",
+                listeners ? "With" : "Without", generated, populated, seconds, generated / seconds)));
+    }
+
+    public static class NoOpTerrainGenListener {
+
+        @SubscribeEvent
+        public void onReplaceBiomeBlocks(ChunkGeneratorEvent.ReplaceBiomeBlocks event) {
+        }
+
+        @SubscribeEvent
+        public void onPopulate(PopulateChunkEvent event) {
+        }
+
+        @SubscribeEvent
+        public void onDecorate(DecorateBiomeEvent event) {
+        }
+
+        @SubscribeEvent
+        public void onOreGen(OreGenEvent event) {
+        }
+    }
+}